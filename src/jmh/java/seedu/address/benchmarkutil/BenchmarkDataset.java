@@ -0,0 +1,96 @@
+package seedu.address.benchmarkutil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Detail;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A utility class that generates contact books for benchmarks.
+ * The same size and seed always give the same persons, with the same ids, so that results can be compared
+ * across commits.
+ */
+public class BenchmarkDataset {
+
+    public static final long DEFAULT_SEED = 20240917L;
+
+    /** Number of distinct tags and companies, in line with real contact books. */
+    public static final int TAG_COUNT = 300;
+    public static final int COMPANY_COUNT = 3000;
+    public static final int MAX_TAGS_PER_PERSON = 3;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Priya", "Ahmad", "Mei", "Lucas", "Siti", "Kenji", "Olivia", "Rahul", "Hui Min"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Nair", "Wong", "Fernandez", "Goh", "Sato", "Kumar", "Chen", "Ng"};
+    private static final String[] DOMAINS = {"example.com", "mail.example.org", "corp.example.net"};
+
+    private BenchmarkDataset() {}
+
+    /**
+     * Returns a contact book of {@code size} persons generated from {@link #DEFAULT_SEED}.
+     */
+    public static AddressBook generate(int size) {
+        return generate(size, DEFAULT_SEED);
+    }
+
+    /**
+     * Returns a contact book of {@code size} persons generated from {@code seed}.
+     */
+    public static AddressBook generate(int size, long seed) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(size, seed));
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code size} distinct persons generated from {@code seed}, with ids from 1 to {@code size}.
+     */
+    public static List<Person> generatePersons(int size, long seed) {
+        // java.util.Random's sequence is fixed by its specification, unlike that of most other generators
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(generatePerson(i + 1, random));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a person with the given {@code id} that is not the same person as any generated one.
+     */
+    public static Person generateNewPerson(long id) {
+        return generatePerson(id, new Random(id));
+    }
+
+    private static Person generatePerson(long id, Random random) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        // the id keeps names, and so identities, distinct
+        Name name = new Name(firstName + " " + lastName + " " + id);
+        Phone phone = new Phone(String.valueOf(80000000L + random.nextInt(20000000)));
+        Email email = new Email(firstName.replace(' ', '.').toLowerCase() + "." + lastName.toLowerCase() + id
+                + "@" + DOMAINS[random.nextInt(DOMAINS.length)]);
+        Company company = Company.of("Company " + random.nextInt(COMPANY_COUNT) + " Pte Ltd");
+        Detail detail = new Detail(random.nextInt(4) == 0 ? "Met at networking event " + random.nextInt(100)
+                : Detail.EMPTY_DETAIL);
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = random.nextInt(MAX_TAGS_PER_PERSON + 1);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of("tag" + random.nextInt(TAG_COUNT)));
+        }
+        return new Person(id, name, phone, email, company, detail, tags);
+    }
+
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DETAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_ADD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_DELETE;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.BenchmarkDataset;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks tokenizing and parsing the arguments of add and edit commands, as run in bulk by scripts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    /** Number of distinct command lines cycled through, so that no line stays in the caches. */
+    private static final int LINE_COUNT = 1024;
+
+    private final String[] addArguments = new String[LINE_COUNT];
+    private final String[] editArguments = new String[LINE_COUNT];
+    private final AddressBookParser parser = new AddressBookParser();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Person> persons = BenchmarkDataset.generatePersons(LINE_COUNT, BenchmarkDataset.DEFAULT_SEED);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            Person person = persons.get(i);
+            StringBuilder add = new StringBuilder()
+                    .append(' ').append(PREFIX_NAME).append(person.getName().fullName)
+                    .append(' ').append(PREFIX_PHONE).append(person.getPhone().value)
+                    .append(' ').append(PREFIX_EMAIL).append(person.getEmail().value)
+                    .append(' ').append(PREFIX_COMPANY).append(person.getCompany().value);
+            for (Tag tag : person.getTags()) {
+                add.append(' ').append(PREFIX_TAG).append(tag.tagName);
+            }
+            addArguments[i] = add.toString();
+            editArguments[i] = " " + (i + 1) + " " + PREFIX_DETAIL + "Met at networking event " + i
+                    + " " + PREFIX_TAG_ADD + "colleague " + PREFIX_TAG_DELETE + "friends";
+        }
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize_add() {
+        return ArgumentTokenizer.tokenize(addArguments[nextLine()],
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_COMPANY, PREFIX_TAG);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize_edit() {
+        return ArgumentTokenizer.tokenize(editArguments[nextLine()], PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_COMPANY, PREFIX_DETAIL, PREFIX_TAG, PREFIX_TAG_ADD, PREFIX_TAG_DELETE);
+    }
+
+    /**
+     * Parses a whole add command, including the validation of every field.
+     */
+    @Benchmark
+    public Command parseCommand_add() throws ParseException {
+        return parser.parseCommand("add" + addArguments[nextLine()]);
+    }
+
+    private int nextLine() {
+        next = (next + 1) % LINE_COUNT;
+        return next;
+    }
+
+}
@@ -0,0 +1,129 @@
+package seedu.address.model;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.BenchmarkDataset;
+import seedu.address.model.person.NameOrCompanyPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks the identity checks, searches and sorting of a contact book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddressBookBenchmark {
+
+    private static final Comparator<Person> NAME_ORDER =
+            Comparator.comparing(person -> person.getName().getLowerCaseName());
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private Person existingPerson;
+    private Person newPerson;
+    private NameOrCompanyPredicate namePredicate;
+    private NameOrCompanyPredicate companyPredicate;
+    private boolean isSortedByName;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        addressBook = BenchmarkDataset.generate(size);
+        existingPerson = addressBook.getPersonList().get(size / 2);
+        newPerson = BenchmarkDataset.generateNewPerson(size + 1);
+        namePredicate = new NameOrCompanyPredicate(Optional.of("tan 1"), Optional.empty());
+        companyPredicate = new NameOrCompanyPredicate(Optional.empty(), Optional.of("42"));
+    }
+
+    @Benchmark
+    public boolean hasPerson_existingPerson() {
+        return addressBook.hasPerson(existingPerson);
+    }
+
+    @Benchmark
+    public boolean hasPerson_newPerson() {
+        return addressBook.hasPerson(newPerson);
+    }
+
+    /**
+     * Checks for a new person the way {@code UniquePersonList#contains} did before it kept an identity index:
+     * a scan that normalizes both names of every comparison. Kept as the baseline for {@link #hasPerson_newPerson()}.
+     */
+    @Benchmark
+    public boolean hasPerson_newPersonByScan() {
+        String newName = normalizeName(newPerson.getName().fullName);
+        return addressBook.getPersonList().stream()
+                .anyMatch(person -> normalizeName(person.getName().fullName).equalsIgnoreCase(newName)
+                        && person.getPhone().equals(newPerson.getPhone()));
+    }
+
+    @Benchmark
+    public void addAndRemovePerson() {
+        addressBook.addPerson(newPerson);
+        addressBook.removePerson(newPerson);
+    }
+
+    @Benchmark
+    public Set<Person> findPersons_name() {
+        return addressBook.findPersons(namePredicate);
+    }
+
+    @Benchmark
+    public Set<Person> findPersons_company() {
+        return addressBook.findPersons(companyPredicate);
+    }
+
+    /**
+     * Tests every person against a name predicate, as the filtered list shown by the UI does.
+     */
+    @Benchmark
+    public int testEveryPerson() {
+        return countMatches(namePredicate);
+    }
+
+    /**
+     * Tests every person against a company predicate, as the filtered list shown by the UI does.
+     */
+    @Benchmark
+    public int testEveryPerson_company() {
+        return countMatches(companyPredicate);
+    }
+
+    /**
+     * Sorts the contact book by name, alternating with the reverse order so that every sort moves each person.
+     */
+    @Benchmark
+    public void sort() {
+        addressBook.sort(isSortedByName ? NAME_ORDER.reversed() : NAME_ORDER);
+        isSortedByName = !isSortedByName;
+    }
+
+    private int countMatches(NameOrCompanyPredicate predicate) {
+        int matches = 0;
+        for (Person person : addressBook.getPersonList()) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static String normalizeName(String name) {
+        return name.trim().replaceAll("\\s+", " ");
+    }
+
+}
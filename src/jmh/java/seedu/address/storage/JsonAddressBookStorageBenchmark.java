@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmarkutil.BenchmarkDataset;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks loading and saving a contact book in the json format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Path testFolder;
+    private AddressBook addressBook;
+    private JsonSerializableAddressBook jsonAddressBook;
+
+    /** Files written by the app itself, which are read without validating every person. */
+    private JsonAddressBookStorage savedStorage;
+    /** Files without a validation marker, such as ones edited by hand. */
+    private JsonAddressBookStorage unvalidatedStorage;
+    private JsonAddressBookStorage saveStorage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, DataLoadingException {
+        testFolder = Files.createTempDirectory("JsonAddressBookStorageBenchmark");
+        addressBook = BenchmarkDataset.generate(size);
+
+        savedStorage = new JsonAddressBookStorage(testFolder.resolve("saved.json"));
+        savedStorage.saveAddressBook(addressBook);
+
+        Path unvalidatedFilePath = testFolder.resolve("unvalidated.json");
+        unvalidatedStorage = new JsonAddressBookStorage(unvalidatedFilePath);
+        unvalidatedStorage.saveAddressBook(addressBook);
+        Files.delete(JsonAddressBookStorage.getValidationMarkerFilePath(unvalidatedFilePath));
+
+        saveStorage = new JsonAddressBookStorage(testFolder.resolve("save.json"));
+        jsonAddressBook = JsonUtil.readJsonFile(savedStorage.getAddressBookFilePath(),
+                JsonSerializableAddressBook.class).get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(testFolder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return savedStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadUnvalidated() throws DataLoadingException {
+        return unvalidatedStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook roundTrip() throws IOException, DataLoadingException {
+        saveStorage.saveAddressBook(addressBook);
+        return saveStorage.readAddressBook().get();
+    }
+
+    /**
+     * Parses the json file without converting it into the model.
+     */
+    @Benchmark
+    public JsonSerializableAddressBook parse() throws DataLoadingException {
+        return JsonUtil.readJsonFile(savedStorage.getAddressBookFilePath(), JsonSerializableAddressBook.class).get();
+    }
+
+    /**
+     * Converts already parsed json into the model, validating every field of every person.
+     */
+    @Benchmark
+    public AddressBook validate() throws IllegalValueException {
+        return jsonAddressBook.toModelType();
+    }
+
+}
@@ -23,8 +23,13 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AsyncStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,8 +62,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new AsyncStorage(new StorageManager(addressBookStorage, userPrefsStorage));
 
         model = initModelManager(storage, userPrefs);
 
@@ -67,15 +72,38 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     * Each storage also reads files in the other formats, so changing the format converts the data file.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, false);
+        case DEFLATED_BINARY:
+            return new BinaryAddressBookStorage(filePath, true);
+        case MAPPED_BINARY:
+            return new MappedAddressBookStorage(filePath);
+        case SHARDED_JSON:
+            return new ShardedAddressBookStorage(filePath, ShardedAddressBookStorage.DEFAULT_SHARD_COUNT);
+        default:
+            return userPrefs.getJournalSettings().isEnabled()
+                    ? new JournaledAddressBookStorage(filePath, userPrefs.getJournalSettings())
+                    : new JsonAddressBookStorage(filePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s contact book and {@code userPrefs}. <br>
      * The data from the sample contact book will be used instead if {@code storage}'s contact book is not found,
      * or an empty contact book will be used instead if errors occur when reading {@code storage}'s contact book.
+     * Only data read from {@code storage} counts as saved, so sample or empty data is saved after the first command.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
+        Optional<ReadOnlyAddressBook> addressBookOptional = Optional.empty();
         ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
@@ -90,7 +118,11 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model model = new ModelManager(initialData, userPrefs);
+        if (addressBookOptional.isPresent()) {
+            storage.setSavedAddressBook(model.getAddressBook());
+        }
+        return model;
     }
 
     private void initLogging(Config config) {
@@ -177,6 +209,9 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FastCard ] =============================");
+        // wait for exports and contact book saves still being written in the background
+        logic.awaitBackgroundTasks();
+        storage.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the contact book data file can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable json. */
+    JSON,
+    /** A compact binary format that loads faster than json. */
+    BINARY,
+    /** The binary format, compressed with Deflate. */
+    DEFLATED_BINARY,
+    /** The binary format, mapped into memory and read lazily so that large contact books open quickly. */
+    MAPPED_BINARY,
+    /** Json split across several files, so that saving only rewrites the files holding changed persons. */
+    SHARDED_JSON
+}
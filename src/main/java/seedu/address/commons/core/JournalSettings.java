@@ -0,0 +1,84 @@
+package seedu.address.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of the journaled storage mode, in which each change to the
+ * contact book is appended to a journal file and the whole contact book is only written when the journal is
+ * compacted.
+ * Guarantees: immutable.
+ */
+public class JournalSettings implements Serializable {
+
+    private static final int DEFAULT_MAX_RECORDS = 1000;
+    private static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    private final boolean enabled;
+    private final int maxRecords;
+    private final long maxBytes;
+
+    /**
+     * Constructs a {@code JournalSettings} with journaling disabled and the default compaction thresholds.
+     */
+    public JournalSettings() {
+        enabled = false;
+        maxRecords = DEFAULT_MAX_RECORDS;
+        maxBytes = DEFAULT_MAX_BYTES;
+    }
+
+    /**
+     * Constructs a {@code JournalSettings} with the specified compaction thresholds.
+     * The journal is compacted once it would hold more than {@code maxRecords} records or {@code maxBytes} bytes.
+     */
+    public JournalSettings(boolean enabled, int maxRecords, long maxBytes) {
+        this.enabled = enabled;
+        this.maxRecords = maxRecords;
+        this.maxBytes = maxBytes;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxRecords() {
+        return maxRecords;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JournalSettings)) {
+            return false;
+        }
+
+        JournalSettings otherJournalSettings = (JournalSettings) other;
+        return enabled == otherJournalSettings.enabled
+                && maxRecords == otherJournalSettings.maxRecords
+                && maxBytes == otherJournalSettings.maxBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxRecords, maxBytes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("enabled", enabled)
+                .add("maxRecords", maxRecords)
+                .add("maxBytes", maxBytes)
+                .toString();
+    }
+}
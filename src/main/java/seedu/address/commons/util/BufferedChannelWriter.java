@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes text to a file in UTF-8 through a large direct buffer, which is only written to the file when it fills up,
+ * so that writing many small pieces of text makes few system calls and no intermediate byte arrays.
+ */
+public class BufferedChannelWriter implements Closeable {
+
+    /** Size of the buffer that encoded text is gathered in before it is written to the file. */
+    public static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final FileChannel channel;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * Creates a {@code BufferedChannelWriter} that writes to the file at {@code filePath},
+     * replacing its contents if it exists.
+     */
+    public BufferedChannelWriter(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Encodes {@code text} into the buffer, writing the buffer to the file whenever it fills up.
+     * {@code text} must not end in half of a surrogate pair.
+     *
+     * @throws java.nio.charset.CharacterCodingException if {@code text} has an unpaired surrogate.
+     */
+    public void write(CharSequence text) throws IOException {
+        requireNonNull(text);
+        CharBuffer input = CharBuffer.wrap(text);
+        while (true) {
+            CoderResult result = encoder.encode(input, buffer, false);
+            if (result.isOverflow()) {
+                writeBuffer();
+            } else if (result.isError()) {
+                result.throwException();
+            } else if (input.hasRemaining()) {
+                // half a surrogate pair at the end
+                CoderResult.malformedForLength(input.remaining()).throwException();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the text held in the buffer to the file and closes it.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            encoder.encode(CharBuffer.allocate(0), buffer, true);
+            while (encoder.flush(buffer).isOverflow()) {
+                writeBuffer();
+            }
+            writeBuffer();
+        } finally {
+            channel.close();
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated records one at a time from a stream, so that a file of any size can be read.
+ * Fields may be quoted, in which case they can hold commas and line breaks, and a quote inside a quoted field is
+ * written as two quotes. This is the format written by {@code ExportCommand} and by spreadsheet applications.
+ */
+public class CsvReader implements Closeable {
+
+    public static final char SEPARATOR = ',';
+    public static final char QUOTE = '"';
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Quoted field starting on line %1$d is never closed";
+
+    /** Marks the start of a file saved as UTF-8 by some spreadsheet applications. */
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int lineNumber = 0;
+    private int recordLineNumber = 0;
+
+    /**
+     * Creates a {@code CsvReader} that reads records from {@code reader}.
+     */
+    public CsvReader(BufferedReader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     *
+     * @throws IOException if the records cannot be read, or a quoted field is never closed.
+     */
+    public List<String> readRecord() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean isQuoted = false;
+        int index = 0;
+        while (true) {
+            if (isQuoted) {
+                int quoteIndex = line.indexOf(QUOTE, index);
+                if (quoteIndex == -1) {
+                    // the quoted field goes on over the next line
+                    field.append(line, index, line.length()).append('\n');
+                    line = readLine();
+                    if (line == null) {
+                        throw new IOException(String.format(MESSAGE_UNTERMINATED_QUOTE, recordLineNumber));
+                    }
+                    index = 0;
+                    continue;
+                }
+
+                field.append(line, index, quoteIndex);
+                index = quoteIndex + 1;
+                if (index < line.length() && line.charAt(index) == QUOTE) {
+                    field.append(QUOTE);
+                    index++;
+                } else {
+                    isQuoted = false;
+                }
+                continue;
+            }
+
+            if (index == line.length()) {
+                fields.add(field.toString());
+                return fields;
+            }
+            char c = line.charAt(index++);
+            if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    /**
+     * Returns the line number, counting from 1, on which the record last returned by {@link #readRecord()} starts.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+            return line.substring(1);
+        }
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe pool that shares one immutable instance per distinct string value.
+ * Values that repeat across many records (tags, companies) are then held in memory once.
+ *
+ * Pooled values are only weakly held, so a value that nothing else uses any more is dropped from the pool, and the
+ * pool never holds more than a fixed number of values. Once it is full, values not pooled yet are created unshared
+ * until others are dropped, so a stream of distinct values cannot make the pool grow without bound.
+ *
+ * @param <T> the type of the pooled values.
+ */
+public class InternPool<T> {
+
+    private final Map<String, PooledReference<T>> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> droppedValues = new ReferenceQueue<>();
+    private final Function<String, T> factory;
+    private final int maxSize;
+
+    /**
+     * Creates a pool of at most {@code maxSize} values that creates missing values with {@code factory}.
+     * Exceptions thrown by {@code factory} propagate to the caller and nothing is pooled.
+     */
+    public InternPool(Function<String, T> factory, int maxSize) {
+        checkArgument(maxSize > 0, "The pool must be able to hold a value");
+        this.factory = requireNonNull(factory);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the pooled value for {@code key}, creating it if there is none yet.
+     * The created value is pooled unless the pool is full.
+     */
+    public T intern(String key) {
+        return intern(key, factory);
+    }
+
+    /**
+     * Returns the pooled value for {@code key} like {@link #intern(String)}, but creates a missing value with
+     * {@code factory} instead of the factory of the pool. {@code factory} must create the same value for the key.
+     */
+    public T intern(String key, Function<String, ? extends T> factory) {
+        requireNonNull(key);
+        requireNonNull(factory);
+        T pooled = get(key);
+        if (pooled != null) {
+            return pooled;
+        }
+
+        expungeDroppedValues();
+        T created = factory.apply(key);
+        if (pool.size() >= maxSize) {
+            return created;
+        }
+        PooledReference<T> createdReference = new PooledReference<>(key, created, droppedValues);
+        while (true) {
+            PooledReference<T> existing = pool.putIfAbsent(key, createdReference);
+            if (existing == null) {
+                return created;
+            }
+            T existingValue = existing.get();
+            if (existingValue != null) {
+                return existingValue;
+            }
+            if (pool.replace(key, existing, createdReference)) {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values in the pool that are still in use.
+     */
+    public int size() {
+        expungeDroppedValues();
+        return pool.size();
+    }
+
+    private T get(String key) {
+        PooledReference<T> reference = pool.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Removes the entries of values that have been garbage collected.
+     */
+    private void expungeDroppedValues() {
+        PooledReference<?> dropped;
+        while ((dropped = (PooledReference<?>) droppedValues.poll()) != null) {
+            pool.remove(dropped.key, dropped);
+        }
+    }
+
+    /**
+     * A weak reference to a pooled value that remembers its key, so its entry can be removed once it is dropped.
+     */
+    private static class PooledReference<T> extends WeakReference<T> {
+        private final String key;
+
+        PooledReference(String key, T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
@@ -25,6 +26,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Runs the commands in the script at {@code scriptFilePath} as one batch, as the {@code run} command does,
+     * and returns a result that reports the lines that failed.
+     * The contact book is saved once, after the last command of the script.
+     * @param isStoppedOnError Whether to stop at the first line that fails.
+     * @throws CommandException If the script cannot be read, or the contact book cannot be saved.
+     */
+    CommandResult executeScript(Path scriptFilePath, boolean isStoppedOnError) throws CommandException;
+
+    /**
+     * Sets the handler given the error message of a save that fails after {@link #execute(String)} has returned,
+     * as happens when the contact book is saved in the background. The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Sets the handler given the progress and outcome messages of work that commands leave to be done in the
+     * background, such as exporting a large contact list. The handler is called on a background thread.
+     */
+    void setBackgroundFeedbackHandler(Consumer<String> backgroundFeedbackHandler);
+
+    /**
+     * Blocks until all the background work left by commands executed so far is done.
+     */
+    void awaitBackgroundTasks();
+
     /**
      * Returns the AddressBook.
      *
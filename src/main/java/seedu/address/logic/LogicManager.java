@@ -1,8 +1,15 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.SimpleObjectProperty;
@@ -10,8 +17,11 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -34,6 +44,15 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+    private volatile Consumer<String> backgroundFeedbackHandler = message -> {};
+
+    /** Runs the background work left by commands, one task at a time in the order the commands were executed. */
+    private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-task");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -42,27 +61,89 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        storage.setSaveFailureHandler(e -> saveFailureHandler.accept(getSaveFailureMessage(e)));
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeAndSave(command);
+    }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    @Override
+    public CommandResult executeScript(Path scriptFilePath, boolean isStoppedOnError) throws CommandException {
+        requireNonNull(scriptFilePath);
+        logger.info("----------------[SCRIPT][" + scriptFilePath + "]");
+
+        return executeAndSave(new RunCommand(scriptFilePath, isStoppedOnError));
+    }
+
+    /**
+     * Executes {@code command}, saves the contact book if it changed, and then starts any background work the
+     * command left.
+     */
+    private CommandResult executeAndSave(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+
+        OptionalLong savedEpoch = storage.getSavedAddressBookEpoch();
+        // nothing changed since the last save, such as after find or list
+        boolean isSaved = savedEpoch.isPresent() && savedEpoch.getAsLong() == model.getMutationEpoch();
+        if (!isSaved) {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveFailureMessage(ioe), ioe);
+            }
         }
 
+        commandResult.getBackgroundTask().ifPresent(this::startBackgroundTask);
         return commandResult;
     }
 
+    private void startBackgroundTask(BackgroundTask backgroundTask) {
+        backgroundExecutor.execute(() -> {
+            try {
+                backgroundTask.run(message -> backgroundFeedbackHandler.accept(message));
+            } catch (RuntimeException e) {
+                logger.warning("Background task failed: " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    private static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void setBackgroundFeedbackHandler(Consumer<String> backgroundFeedbackHandler) {
+        requireNonNull(backgroundFeedbackHandler);
+        this.backgroundFeedbackHandler = backgroundFeedbackHandler;
+    }
+
+    @Override
+    public void awaitBackgroundTasks() {
+        try {
+            backgroundExecutor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for background tasks to finish");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // the task does nothing, so it cannot fail
+            throw new AssertionError(e);
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -38,7 +38,6 @@ public class AddCommand extends Command {
     public static final String MESSAGE_SUCCESS = "New contact added: \n%1$s";
     public static final String MESSAGE_DUPLICATE_PERSON = "This contact already exists in the contact book";
     public static final String MESSAGE_DUPLICATE_EMAIL = "This email already exists in the contact book";
-    private static final String PLACEHOLDER_EMAIL = "unknown@example.com";
 
     private final Person toAdd;
 
@@ -66,14 +65,12 @@ public class AddCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
+    /**
+     * Returns true if another contact already uses the new contact's email.
+     * The placeholder email may be shared, so it is never a duplicate.
+     */
     private boolean isEmailDuplicated(Model model) {
-        String emailValue = toAdd.getEmail().value;
-        if (PLACEHOLDER_EMAIL.equals(emailValue)) {
-            return false;
-        }
-
-        return model.getAddressBook().getPersonList().stream()
-                .anyMatch(person -> person.getEmail().value.equals(emailValue));
+        return model.hasEmail(toAdd.getEmail());
     }
 
     @Override
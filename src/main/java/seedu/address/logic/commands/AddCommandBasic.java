@@ -31,7 +31,6 @@ public class AddCommandBasic extends Command {
     public static final String MESSAGE_SUCCESS = "You have successfully added this contact: \n%1$s";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the contact book";
     public static final String MESSAGE_DUPLICATE_EMAIL = "This email already exists in the contact book";
-    private static final String PLACEHOLDER_EMAIL = "unknown@example.com";
 
     private static final Logger logger = Logger.getLogger(AddCommandBasic.class.getName());
     private final Person toAdd;
@@ -61,14 +60,12 @@ public class AddCommandBasic extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
+    /**
+     * Returns true if another contact already uses the new contact's email.
+     * The placeholder email may be shared, so it is never a duplicate.
+     */
     private boolean isEmailDuplicated(Model model) {
-        String emailValue = toAdd.getEmail().value;
-        if (PLACEHOLDER_EMAIL.equals(emailValue)) {
-            return false;
-        }
-
-        return model.getAddressBook().getPersonList().stream()
-                .anyMatch(person -> person.getEmail().value.equals(emailValue));
+        return model.hasEmail(toAdd.getEmail());
     }
 
     @Override
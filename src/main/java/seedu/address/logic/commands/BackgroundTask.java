@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Consumer;
+
+/**
+ * Work that a command leaves to be done after it returns, away from the UI thread, such as writing a large file.
+ * The work must not read the model, which may change while it runs, so it should only use what the command
+ * copied out of the model beforehand.
+ */
+@FunctionalInterface
+public interface BackgroundTask {
+
+    /**
+     * Does the work, passing messages on its progress and outcome for the user to {@code feedbackHandler}.
+     * Failures are reported to the user in the same way rather than thrown.
+     */
+    void run(Consumer<String> feedbackHandler);
+
+    /**
+     * Returns a task that runs this task and then {@code next}.
+     */
+    default BackgroundTask andThen(BackgroundTask next) {
+        return feedbackHandler -> {
+            run(feedbackHandler);
+            next.run(feedbackHandler);
+        };
+    }
+}
@@ -17,4 +17,13 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command can be executed again, in place of parsing the same input again.
+     * Such a command must not change after it is created, nor depend on anything read while it was parsed,
+     * such as a newly created person.
+     */
+    public boolean isReusable() {
+        return false;
+    }
+
 }
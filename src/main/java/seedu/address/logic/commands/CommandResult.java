@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -28,15 +29,32 @@ public class CommandResult {
     */
     private final int focusIndex;
 
+    /** Work left to be done in the background after the command returns, or null if there is none. */
+    private final BackgroundTask backgroundTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean toggleDetail, int focusIndex) {
+        this(feedbackToUser, showHelp, exit, toggleDetail, focusIndex, null);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, which leaves
+     * {@code backgroundTask} to be done in the background, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this(feedbackToUser, false, false, false, -1, requireNonNull(backgroundTask));
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean toggleDetail,
+            int focusIndex, BackgroundTask backgroundTask) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.toggleDetail = toggleDetail;
         this.exit = exit;
         this.focusIndex = focusIndex;
+        this.backgroundTask = backgroundTask;
     }
 
     /**
@@ -67,6 +85,10 @@ public class CommandResult {
         return focusIndex != -1;
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -107,17 +106,14 @@ public class DeleteCommand extends Command {
     }
 
     private CommandResult executeDeleteByName(Model model) throws CommandException {
-        List<Person> matchingPersons = model.getAddressBook().getPersonList().stream()
-                .filter(person -> person.getName().fullName.equalsIgnoreCase(targetName.fullName))
-                .collect(Collectors.toList());
+        List<Person> matchingPersons = model.findPersonsByName(targetName.fullName);
 
         if (matchingPersons.isEmpty()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_INFO);
         }
 
         if (matchingPersons.size() > 1) {
-            model.updateFilteredPersonList(person ->
-                    person.getName().fullName.equalsIgnoreCase(targetName.fullName));
+            model.updateFilteredPersonListByName(targetName.fullName);
             String feedback = MESSAGE_MULTIPLE_PERSONS_WITH_NAME.formatted(targetName)
                     + System.lineSeparator()
                     + Messages.MESSAGE_PERSONS_LISTED_OVERVIEW.formatted(matchingPersons.size());
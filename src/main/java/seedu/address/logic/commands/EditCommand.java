@@ -87,7 +87,6 @@ public class EditCommand extends Command {
             + "in the following list of matched contacts.";
     public static final String MESSAGE_PERSON_NAME_NOT_FOUND =
             "The person name provided does not match any displayed contact.";
-    private static final String PLACEHOLDER_EMAIL = "unknown@example.com";
 
     private final Index index;
     private final String nameReference;
@@ -130,20 +129,15 @@ public class EditCommand extends Command {
             }
             personToEdit = lastShownList.get(index.getZeroBased());
         } else {
-            String normalizedQuery = normalizeName(nameReference);
-
             // Find exact name matches (case-insensitive, multiple spaces collapsed)
-            java.util.List<Person> matchedPersons = lastShownList.stream()
-                    .filter(p -> normalizeName(p.getName().toString()).equalsIgnoreCase(normalizedQuery))
-                    .collect(java.util.stream.Collectors.toList());
+            List<Person> matchedPersons = model.findFilteredPersonsByName(nameReference);
 
             if (matchedPersons.isEmpty()) {
                 throw new CommandException(MESSAGE_PERSON_NAME_NOT_FOUND);
             }
 
             if (matchedPersons.size() > 1) {
-                model.updateFilteredPersonList(p -> normalizeName(p.getName().toString())
-                        .equalsIgnoreCase(normalizedQuery));
+                model.updateFilteredPersonListByName(nameReference);
                 throw new CommandException(MESSAGE_MULTIPLE_MATCHING_PERSONS);
             }
 
@@ -219,7 +213,9 @@ public class EditCommand extends Command {
             }
         }
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedCompany, updatedDetail, updatedTags);
+        // keep the id so that the edited person replaces the original in place
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedCompany,
+                updatedDetail, updatedTags);
     }
 
     @Override
@@ -248,11 +244,6 @@ public class EditCommand extends Command {
                 .toString();
     }
 
-    private static String normalizeName(String raw) {
-        String trimmed = raw.trim();
-        return trimmed.replaceAll("\\s+", " ");
-    }
-
     /**
      * Checks if the edited contact's email is already used by another contact in the contact book.
      * Returns false if:
@@ -269,15 +260,9 @@ public class EditCommand extends Command {
             return false;
         }
 
-        // If the email is a placeholder, allow it
-        if (PLACEHOLDER_EMAIL.equals(editedEmailValue)) {
-            return false;
-        }
-
-        // Check if any other person has this email
-        return model.getAddressBook().getPersonList().stream()
-                .filter(person -> !person.equals(personToEdit))
-                .anyMatch(person -> person.getEmail().value.equals(editedEmailValue));
+        // The email differs from the original, so any contact using it is another contact.
+        // Placeholder emails are never reported as in use.
+        return model.hasEmail(editedPerson.getEmail());
     }
 
     /**
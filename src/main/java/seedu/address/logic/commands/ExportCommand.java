@@ -1,57 +1,88 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LISTED_ONLY;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
+import seedu.address.commons.util.BufferedChannelWriter;
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
- * Exports all contact(s) from the address book to a CSV file on the user's Desktop.
+ * Exports all contact(s) from the address book, or only those listed, to a CSV file on the user's Desktop.
  *
  * This command enforces that all exports go to the user's Desktop folder,
  * regardless of what file path the user provides. The user can only customize the filename.
+ *
+ * The contacts are copied out of the model when the command is executed, and the file is written afterwards in the
+ * background, so that a large export does not hold up the UI. Progress and the outcome are reported as it goes.
  */
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Exports all contact(s) to a CSV file on your Desktop. "
-            + "Parameters: f/FILENAME.csv\n"
-            + "Example: " + COMMAND_WORD + " f/contacts.csv";
+            + ": Exports all contact(s) to a CSV file on your Desktop, "
+            + "or only the contact(s) currently listed with " + PREFIX_LISTED_ONLY + ". "
+            + "Parameters: " + PREFIX_FILE_PATH + "FILENAME.csv [" + PREFIX_LISTED_ONLY + "]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE_PATH + "contacts.csv";
 
+    public static final String MESSAGE_STARTED = "Exporting %1$d contact(s) to Desktop: %2$s";
+    public static final String MESSAGE_PROGRESS = "Exporting to Desktop: %1$s (%2$d of %3$d contact(s) written)";
     public static final String MESSAGE_SUCCESS = "Contacts exported successfully to Desktop: %s";
     public static final String MESSAGE_FAILURE = "Failed to export contacts: %s";
 
+    /** The header row of an exported file, naming its columns in order. */
+    public static final String CSV_HEADER = "Name,Phone,Email,Company,Detail,Tags";
+
+    /** Number of contacts written between progress messages. */
+    static final int PROGRESS_INTERVAL = 100_000;
+
+    /** Number of characters of rows gathered before they are handed to the file writer. */
+    private static final int ROWS_WRITE_THRESHOLD = 64 * 1024;
+
     private final String userInputName;
+    private final boolean isListedOnly;
 
     /**
      * Save the parsed input as the .csv file name
      */
     public ExportCommand(String userInputName) {
+        this(userInputName, false);
+    }
+
+    /**
+     * Save the parsed input as the .csv file name, exporting only the contacts currently listed
+     * if {@code isListedOnly} is true.
+     */
+    public ExportCommand(String userInputName, boolean isListedOnly) {
         requireNonNull(userInputName);
         this.userInputName = userInputName;
+        this.isListedOnly = isListedOnly;
+    }
+
+    @Override
+    public boolean isReusable() {
+        return true;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        List<Person> contacts = model.getAddressBook().getPersonList();
-
-        // Get the Desktop directory of the current user
-        String desktopPath = System.getProperty("user.home") + File.separator + "Desktop" + File.separator;
-
-        // Ensure Desktop exists (important for CI environments)
-        File desktopDir = new File(desktopPath);
-        if (!desktopDir.exists()) {
-            desktopDir.mkdirs(); // create Desktop if it doesn’t exist
-        }
+        // Copy the contacts now, since the model may change while the file is written
+        List<Person> contacts = isListedOnly
+                ? List.copyOf(model.getFilteredPersonList())
+                : model.getAddressBook().snapshot().getPersonList();
 
         // Extract only the filename part, in case the user includes a path
         String filename = new File(userInputName).getName();
@@ -61,41 +92,75 @@ public class ExportCommand extends Command {
             filename = filename + ".csv";
         }
 
-        // Build the full file path to Desktop
-        String fullPath = desktopPath + filename;
-
-        try (FileWriter writer = new FileWriter(fullPath)) {
-            // Write the CSV header row
-            writer.append("Name,Phone,Email,Company,Detail,Tags\n");
-
-            // Write one line per contact
-            for (Person p : contacts) {
-                String tags = p.getTags().stream()
-                        .map(tag -> tag.tagName)
-                        .collect(Collectors.joining(";"));
-
-                writer.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n",
-                        escapeCsv(p.getName().fullName),
-                        escapeCsv(p.getPhone().value),
-                        escapeCsv(p.getEmail().value),
-                        escapeCsv(p.getCompany().value),
-                        escapeCsv(p.getDetail().value),
-                        escapeCsv(tags)
-                ));
-            }
+        String exportedFilename = filename;
+        return new CommandResult(String.format(MESSAGE_STARTED, contacts.size(), filename),
+                feedbackHandler -> export(contacts, exportedFilename, feedbackHandler));
+    }
 
-            // Return success message
-            return new CommandResult(String.format(MESSAGE_SUCCESS, filename));
+    /**
+     * Writes {@code contacts} to {@code filename} on the Desktop, reporting progress and the outcome to
+     * {@code feedbackHandler}. Rows are formatted into one reused buffer and written a block at a time.
+     */
+    private void export(List<Person> contacts, String filename, Consumer<String> feedbackHandler) {
+        // Get the Desktop directory of the current user
+        Path desktopPath = Paths.get(System.getProperty("user.home"), "Desktop");
+
+        try {
+            // Ensure Desktop exists (important for CI environments)
+            Files.createDirectories(desktopPath);
+
+            try (BufferedChannelWriter writer = new BufferedChannelWriter(desktopPath.resolve(filename))) {
+                StringBuilder rows = new StringBuilder(2 * ROWS_WRITE_THRESHOLD);
+                // Write the CSV header row
+                rows.append(CSV_HEADER).append('\n');
+
+                // Write one line per contact
+                for (int i = 0; i < contacts.size(); i++) {
+                    appendRow(rows, contacts.get(i));
+                    if (rows.length() >= ROWS_WRITE_THRESHOLD) {
+                        writer.write(rows);
+                        rows.setLength(0);
+                    }
+                    if ((i + 1) % PROGRESS_INTERVAL == 0) {
+                        feedbackHandler.accept(String.format(MESSAGE_PROGRESS, filename, i + 1, contacts.size()));
+                    }
+                }
+                writer.write(rows);
+            }
 
+            // Report success
+            feedbackHandler.accept(String.format(MESSAGE_SUCCESS, filename));
         } catch (IOException e) {
-            // Return error message if file writing fails
-            return new CommandResult(String.format(MESSAGE_FAILURE, e.getMessage()));
+            // Report error message if file writing fails
+            feedbackHandler.accept(String.format(MESSAGE_FAILURE, e.getMessage()));
         }
     }
 
+    /**
+     * Appends {@code p} to {@code rows} as a row with every field quoted and tags separated by semicolons.
+     */
+    private void appendRow(StringBuilder rows, Person p) {
+        rows.append('"').append(escapeCsv(p.getName().fullName))
+                .append("\",\"").append(escapeCsv(p.getPhone().value))
+                .append("\",\"").append(escapeCsv(p.getEmail().value))
+                .append("\",\"").append(escapeCsv(p.getCompany().value))
+                .append("\",\"").append(escapeCsv(p.getDetail().value))
+                .append("\",\"");
+        boolean isFirstTag = true;
+        for (Tag tag : p.getTags()) {
+            if (!isFirstTag) {
+                rows.append(';');
+            }
+            rows.append(escapeCsv(tag.tagName));
+            isFirstTag = false;
+        }
+        rows.append("\"\n");
+    }
+
     /**
      * Escapes quotation marks inside fields to ensure valid CSV formatting.
      * Example:  Hello "World" -> Hello ""World""
+     * Fields without quotation marks are returned as they are, without copying.
      */
     private String escapeCsv(String input) {
         if (input == null) {
@@ -108,6 +173,15 @@ public class ExportCommand extends Command {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof ExportCommand
-                && userInputName.equals(((ExportCommand) other).userInputName));
+                && userInputName.equals(((ExportCommand) other).userInputName)
+                && isListedOnly == ((ExportCommand) other).isListedOnly);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("userInputName", userInputName)
+                .add("isListedOnly", isListedOnly)
+                .toString();
     }
 }
@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_ADD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_DELETE;
 
 import java.util.logging.Logger;
 
@@ -11,7 +14,8 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagsContainTagPredicate;
 
 /**
- * Filters and lists all persons in the contact book whose contact information contains any of the tags.
+ * Filters and lists all persons in the contact book whose contact information contains any of the tags,
+ * all of the required tags and none of the excluded tags.
  * Keyword matching is case insensitive.
  */
 public class FilterCommand extends Command {
@@ -21,9 +25,13 @@ public class FilterCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Filters all persons whose contact information contains any of "
             + "the specified tags (case-insensitive) and displays them as a list.\n"
+            + "Tags given with " + PREFIX_TAG_ADD + " must all be present, "
+            + "and tags given with " + PREFIX_TAG_DELETE + " must all be absent.\n"
             + "Tags should be alphanumeric and at most " + Tag.MAX_LENGTH + " characters long.\n"
-            + "Parameters: t/TAG [t/TAG]...\n"
-            + "Example: " + COMMAND_WORD + " t/client t/colleague";
+            + "Parameters: [" + PREFIX_TAG + "TAG]... [" + PREFIX_TAG_ADD + "TAG]... ["
+            + PREFIX_TAG_DELETE + "TAG]... (at least one tag)\n"
+            + "Example: " + COMMAND_WORD + " t/client t/colleague\n"
+            + "Example: " + COMMAND_WORD + " t+/client t-/inactive";
 
     private static final Logger logger = LogsCenter.getLogger(FilterCommand.class);
 
@@ -39,12 +47,17 @@ public class FilterCommand extends Command {
         logger.fine("FilterCommand object created with predicate: " + predicate);
     }
 
+    @Override
+    public boolean isReusable() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         logger.info("Executing filter command");
 
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByTags(predicate);
         int filteredListSize = model.getFilteredPersonList().size();
 
         logger.info("Filter command executed successfully. Number of persons found: " + filteredListSize);
@@ -0,0 +1,405 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MERGE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Detail;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Imports contacts from a CSV file in the format written by {@link ExportCommand}.
+ *
+ * The file is streamed, a pass of rows at a time. The rows of each pass are validated in parallel, then checked
+ * against the indexes of the contact book and against the earlier rows, so the time taken depends on the size of
+ * the file rather than of the contact book. All the new contacts are added in one bulk operation at the end, so a
+ * file that cannot be read leaves the contact book unchanged.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports contacts from a CSV file, such as one written by " + ExportCommand.COMMAND_WORD + ". "
+            + "Files not given with a full path are read from your Desktop.\n"
+            + "Parameters: " + PREFIX_FILE_PATH + "FILENAME.csv [" + PREFIX_MERGE + "]\n"
+            + "Rows for contacts that already exist are skipped, or merged into them with " + PREFIX_MERGE + ".\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE_PATH + "contacts.csv " + PREFIX_MERGE;
+
+    public static final String CSV_EXTENSION = ".csv";
+
+    /** Number of rows validated together. Chunks are validated in parallel. */
+    static final int VALIDATION_CHUNK_SIZE = 1024;
+
+    /** Number of rows read before they are validated, which bounds the rows held in memory at once. */
+    static final int ROWS_PER_PASS = 64 * VALIDATION_CHUNK_SIZE;
+
+    /** Number of skipped rows listed in the result. */
+    public static final int MAX_REPORTED_SKIPS = 20;
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d row(s) from %2$s: %3$d added, %4$d merged, "
+            + "%5$d skipped.";
+    public static final String MESSAGE_ROW_SKIPPED = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_SKIPPED = "... and %1$d more skipped row(s).";
+    public static final String MESSAGE_TOO_MANY_FIELDS = "Expected at most %1$d fields (" + ExportCommand.CSV_HEADER
+            + ") but found %2$d";
+    public static final String MESSAGE_MISSING_PHONE = "Both a name and a phone number are required";
+    public static final String MESSAGE_DUPLICATE_ROW = "This contact is already in an earlier row";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_READ_FAILURE = "Could not import %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private static final int FIELD_COUNT = ExportCommand.CSV_HEADER.split(",").length;
+    private static final String NO_COMPANY = "N/A";
+    private static final String TAG_SEPARATOR = ";";
+
+    private final Path filePath;
+    private final boolean isMerging;
+
+    /**
+     * Creates an ImportCommand that imports the file at {@code filePath}, merging rows for existing contacts into
+     * them if {@code isMerging} is true and skipping such rows otherwise.
+     */
+    public ImportCommand(Path filePath, boolean isMerging) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isMerging = isMerging;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path importFilePath = resolveFilePath();
+        logger.info("Importing contacts from " + importFilePath);
+
+        ImportPlan plan = new ImportPlan(model, isMerging);
+        try (CsvReader reader = new CsvReader(new BufferedReader(
+                new InputStreamReader(Files.newInputStream(importFilePath), StandardCharsets.UTF_8),
+                FileUtil.BUFFER_SIZE))) {
+            readRows(reader, plan);
+        } catch (NoSuchFileException nsfe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, importFilePath), nsfe);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, importFilePath.getFileName(),
+                    ioe.getMessage()), ioe);
+        }
+
+        plan.applyTo(model);
+        logger.info("Imported " + plan.getRowCount() + " row(s) from " + importFilePath + ": "
+                + plan.addedPersons.size() + " added, " + plan.mergedRowCount + " merged, "
+                + plan.skippedRows.size() + " skipped");
+        return new CommandResult(getResultMessage(importFilePath, plan));
+    }
+
+    /**
+     * Returns the file to import. A file not given with a full path is on the Desktop, where exports are written,
+     * and is assumed to be a CSV file if it has no extension.
+     */
+    private Path resolveFilePath() {
+        Path resolvedPath = filePath;
+        if (!resolvedPath.isAbsolute()) {
+            resolvedPath = Paths.get(System.getProperty("user.home"), "Desktop").resolve(resolvedPath);
+        }
+        String fileName = resolvedPath.getFileName().toString();
+        if (!fileName.contains(".")) {
+            resolvedPath = resolvedPath.resolveSibling(fileName + CSV_EXTENSION);
+        }
+        return resolvedPath;
+    }
+
+    /**
+     * Reads every row of {@code reader} into {@code plan}, a pass of rows at a time.
+     * A header row at the start and blank rows are skipped without being reported.
+     */
+    private static void readRows(CsvReader reader, ImportPlan plan) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        int[] lineNumbers = new int[ROWS_PER_PASS];
+        boolean isFirstRecord = true;
+        for (List<String> record = reader.readRecord(); record != null; record = reader.readRecord()) {
+            if (isFirstRecord) {
+                isFirstRecord = false;
+                if (String.join(",", record).equalsIgnoreCase(ExportCommand.CSV_HEADER)) {
+                    continue;
+                }
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            lineNumbers[rows.size()] = reader.getRecordLineNumber();
+            rows.add(record);
+            if (rows.size() == ROWS_PER_PASS) {
+                importRows(rows, lineNumbers, plan);
+                rows.clear();
+            }
+        }
+        importRows(rows, lineNumbers, plan);
+    }
+
+    /**
+     * Validates {@code rows} in parallel chunks on the common fork-join pool, then adds them to {@code plan} in
+     * file order.
+     */
+    private static void importRows(List<List<String>> rows, int[] lineNumbers, ImportPlan plan) {
+        Person[] persons = new Person[rows.size()];
+        String[] errors = new String[rows.size()];
+        int chunkCount = (rows.size() + VALIDATION_CHUNK_SIZE - 1) / VALIDATION_CHUNK_SIZE;
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            int to = Math.min((chunk + 1) * VALIDATION_CHUNK_SIZE, rows.size());
+            for (int i = chunk * VALIDATION_CHUNK_SIZE; i < to; i++) {
+                try {
+                    persons[i] = toPerson(rows.get(i));
+                } catch (ParseException pe) {
+                    errors[i] = pe.getMessage();
+                }
+            }
+        });
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (errors[i] != null) {
+                plan.skip(lineNumbers[i], errors[i]);
+            } else {
+                plan.add(lineNumbers[i], persons[i]);
+            }
+        }
+    }
+
+    /**
+     * Converts the fields of a row into a new person. Only the name and phone are required, and the other fields
+     * default as they do for {@code addbasic}.
+     *
+     * @throws ParseException if a field is invalid or there are too many fields.
+     */
+    private static Person toPerson(List<String> fields) throws ParseException {
+        if (fields.size() > FIELD_COUNT) {
+            throw new ParseException(String.format(MESSAGE_TOO_MANY_FIELDS, FIELD_COUNT, fields.size()));
+        }
+        if (fields.size() < 2) {
+            throw new ParseException(MESSAGE_MISSING_PHONE);
+        }
+
+        Name name = ParserUtil.parseName(fields.get(0));
+        Phone phone = ParserUtil.parsePhone(fields.get(1));
+        Email email = ParserUtil.parseEmail(getFieldOrDefault(fields, 2, Email.PLACEHOLDER));
+        Company company = ParserUtil.parseCompany(getFieldOrDefault(fields, 3, NO_COMPANY));
+        Detail detail = ParserUtil.parseDetail(getFieldOrDefault(fields, 4, Detail.EMPTY_DETAIL));
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : getFieldOrDefault(fields, 5, "").split(TAG_SEPARATOR)) {
+            if (!tagName.isBlank()) {
+                tags.add(ParserUtil.parseTag(tagName));
+            }
+        }
+        return new Person(name, phone, email, company, detail, tags);
+    }
+
+    private static String getFieldOrDefault(List<String> fields, int index, String defaultValue) {
+        return index < fields.size() && !fields.get(index).isBlank() ? fields.get(index) : defaultValue;
+    }
+
+    /**
+     * Returns {@code current} with the details of {@code incoming}, a person with the same identity, merged in.
+     * Details that {@code incoming} leaves out keep their current values, and the tags of both are kept.
+     */
+    static Person merge(Person current, Person incoming) {
+        Email email = incoming.getEmail().isPlaceholder() ? current.getEmail() : incoming.getEmail();
+        Company company = NO_COMPANY.equals(incoming.getCompany().value) ? current.getCompany()
+                : incoming.getCompany();
+        Detail detail = incoming.getDetail().isEmpty() ? current.getDetail() : incoming.getDetail();
+        Set<Tag> tags = new HashSet<>(current.getTags());
+        tags.addAll(incoming.getTags());
+        return new Person(current.getId(), current.getName(), current.getPhone(), email, company, detail, tags);
+    }
+
+    private String getResultMessage(Path importFilePath, ImportPlan plan) {
+        List<String> skippedRows = plan.skippedRows;
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, plan.getRowCount(),
+                importFilePath.getFileName(), plan.addedPersons.size(), plan.mergedRowCount, skippedRows.size()));
+        for (String skippedRow : skippedRows.subList(0, Math.min(skippedRows.size(), MAX_REPORTED_SKIPS))) {
+            message.append('\n').append(skippedRow);
+        }
+        if (skippedRows.size() > MAX_REPORTED_SKIPS) {
+            message.append('\n').append(String.format(MESSAGE_MORE_SKIPPED,
+                    skippedRows.size() - MAX_REPORTED_SKIPS));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && isMerging == otherImportCommand.isMerging;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("isMerging", isMerging)
+                .toString();
+    }
+
+    /**
+     * The contacts to add and merge, worked out row by row before anything is changed.
+     * Contacts and emails already in the contact book are looked up through the indexes of the model, so only
+     * what the rows of the file add or change is held here.
+     */
+    private static class ImportPlan {
+        private final Model model;
+        private final boolean isMerging;
+        /** Maps each non-placeholder email the rows give a contact to the identity key of that contact. */
+        private final Map<String, String> emailOwners = new HashMap<>();
+        /** The emails of existing contacts that rows merged a different email into. */
+        private final Set<String> releasedEmails = new HashSet<>();
+        private final Map<String, Person> addedPersons = new LinkedHashMap<>();
+        /** Maps the identity key of each existing contact that rows were merged into to the contact. */
+        private final Map<String, Person> existingPersons = new HashMap<>();
+        /** Maps the identity key of each existing contact that rows were merged into to its merged details. */
+        private final Map<String, Person> mergedPersons = new LinkedHashMap<>();
+        private final List<String> skippedRows = new ArrayList<>();
+        private int mergedRowCount = 0;
+
+        ImportPlan(Model model, boolean isMerging) {
+            this.model = model;
+            this.isMerging = isMerging;
+        }
+
+        int getRowCount() {
+            return addedPersons.size() + mergedRowCount + skippedRows.size();
+        }
+
+        void skip(int lineNumber, String reason) {
+            skippedRows.add(String.format(MESSAGE_ROW_SKIPPED, lineNumber, reason));
+        }
+
+        /**
+         * Adds the person read from the row on {@code lineNumber}, merging it into an earlier row or an existing
+         * contact with the same identity if this plan merges, or skipping it otherwise.
+         */
+        void add(int lineNumber, Person person) {
+            String identityKey = person.getIdentityKey();
+            Person earlierRow = addedPersons.get(identityKey);
+            Person existing = earlierRow != null ? null : findExisting(person);
+            if (!isMerging && earlierRow != null) {
+                skip(lineNumber, MESSAGE_DUPLICATE_ROW);
+                return;
+            }
+            if (!isMerging && existing != null) {
+                skip(lineNumber, AddCommand.MESSAGE_DUPLICATE_PERSON);
+                return;
+            }
+
+            Person current = earlierRow != null ? earlierRow
+                    : existing != null ? mergedPersons.getOrDefault(identityKey, existing)
+                    : null;
+            Person result = current == null ? person : merge(current, person);
+            Email email = result.getEmail();
+            if (isUsedByOther(email, identityKey, existing)) {
+                skip(lineNumber, AddCommand.MESSAGE_DUPLICATE_EMAIL);
+                return;
+            }
+
+            if (current != null) {
+                emailOwners.remove(current.getEmail().value, identityKey);
+                mergedRowCount++;
+            }
+            if (!email.isPlaceholder()) {
+                emailOwners.put(email.value, identityKey);
+            }
+            if (existing != null) {
+                if (!existing.getEmail().isPlaceholder() && !existing.getEmail().equals(email)) {
+                    releasedEmails.add(existing.getEmail().value);
+                }
+                existingPersons.putIfAbsent(identityKey, existing);
+                mergedPersons.put(identityKey, result);
+            } else {
+                addedPersons.put(identityKey, result);
+            }
+        }
+
+        /**
+         * Returns the contact in the contact book with the same identity as {@code person}, or null if there is
+         * none.
+         */
+        private Person findExisting(Person person) {
+            Person existing = existingPersons.get(person.getIdentityKey());
+            return existing != null ? existing : model.findSamePerson(person).orElse(null);
+        }
+
+        /**
+         * Returns true if {@code email} is used by a contact other than the one with {@code identityKey}, once the
+         * rows planned so far are applied. {@code existing} is that contact as it is in the contact book, if it is.
+         */
+        private boolean isUsedByOther(Email email, String identityKey, Person existing) {
+            String owner = emailOwners.get(email.value);
+            if (owner != null) {
+                return !owner.equals(identityKey);
+            }
+            if (existing != null && existing.getEmail().equals(email)) {
+                return false;
+            }
+            return model.hasEmail(email) && !releasedEmails.contains(email.value);
+        }
+
+        /**
+         * Makes the planned changes to {@code model} as one batch, adding the new contacts in one bulk operation.
+         */
+        void applyTo(Model model) {
+            model.startBatch();
+            try {
+                for (Map.Entry<String, Person> merged : mergedPersons.entrySet()) {
+                    Person existing = existingPersons.get(merged.getKey());
+                    if (!existing.equals(merged.getValue())) {
+                        model.setPerson(existing, merged.getValue());
+                    }
+                }
+                if (!addedPersons.isEmpty()) {
+                    model.addPersons(new ArrayList<>(addedPersons.values()));
+                }
+            } finally {
+                model.endBatch();
+            }
+        }
+    }
+}
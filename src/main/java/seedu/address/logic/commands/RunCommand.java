@@ -0,0 +1,173 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STOP_ON_ERROR;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single batch.
+ * The contact book is saved once after the whole script, rather than after every command, and the filtered person
+ * list is refreshed once. Lines that fail are reported, and the remaining lines run unless told to stop.
+ * The script is read in full before any of its commands run, so a script that cannot be read changes nothing.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line. Blank lines and lines starting with "
+            + COMMENT_MARKER + " are skipped.\n"
+            + "Parameters: " + PREFIX_FILE_PATH + "FILE [" + PREFIX_STOP_ON_ERROR + "]\n"
+            + "Add " + PREFIX_STOP_ON_ERROR + " to stop at the first line that fails.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE_PATH + "new-contacts.txt " + PREFIX_STOP_ON_ERROR;
+
+    /** Number of failed lines listed in the result, so that a script full of errors does not flood the display. */
+    public static final int MAX_REPORTED_FAILURES = 20;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s: %3$d succeeded, %4$d failed.";
+    public static final String MESSAGE_STOPPED = "Stopped at line %1$d.";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more failed line(s).";
+    public static final String MESSAGE_NESTED_RUN = "Scripts cannot run other scripts.";
+    public static final String MESSAGE_READ_FAILURE = "Could not read script %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptFilePath;
+    private final boolean isStoppedOnError;
+
+    /**
+     * Creates a RunCommand that runs the script at {@code scriptFilePath},
+     * stopping at the first line that fails if {@code isStoppedOnError} is true.
+     */
+    public RunCommand(Path scriptFilePath, boolean isStoppedOnError) {
+        requireNonNull(scriptFilePath);
+        this.scriptFilePath = scriptFilePath;
+        this.isStoppedOnError = isStoppedOnError;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Running script " + scriptFilePath);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptFilePath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, scriptFilePath, ioe.getMessage()), ioe);
+        }
+
+        AddressBookParser parser = new AddressBookParser();
+        List<String> failures = new ArrayList<>();
+        int commandCount = 0;
+        int stoppedLineNumber = -1;
+        // work left by commands such as export, done in the background in script order
+        BackgroundTask backgroundTasks = null;
+
+        model.startBatch();
+        try {
+            int lineNumber = 0;
+            for (String line : lines) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    Optional<BackgroundTask> backgroundTask =
+                            executeLine(parser, commandText, model).getBackgroundTask();
+                    if (backgroundTask.isPresent()) {
+                        backgroundTasks = backgroundTasks == null
+                                ? backgroundTask.get()
+                                : backgroundTasks.andThen(backgroundTask.get());
+                    }
+                } catch (ParseException | CommandException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILURE, lineNumber, e.getMessage()));
+                    if (isStoppedOnError) {
+                        stoppedLineNumber = lineNumber;
+                        break;
+                    }
+                }
+            }
+        } finally {
+            model.endBatch();
+        }
+
+        logger.info("Ran " + commandCount + " command(s) from " + scriptFilePath + " with "
+                + failures.size() + " failure(s)");
+        String resultMessage = getResultMessage(commandCount, failures, stoppedLineNumber);
+        return backgroundTasks == null
+                ? new CommandResult(resultMessage)
+                : new CommandResult(resultMessage, backgroundTasks);
+    }
+
+    private static CommandResult executeLine(AddressBookParser parser, String commandText, Model model)
+            throws ParseException, CommandException {
+        Command command = parser.parseCommand(commandText);
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_RUN);
+        }
+        return command.execute(model);
+    }
+
+    private String getResultMessage(int commandCount, List<String> failures, int stoppedLineNumber) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, commandCount,
+                scriptFilePath.getFileName(), commandCount - failures.size(), failures.size()));
+        if (stoppedLineNumber != -1) {
+            message.append(' ').append(String.format(MESSAGE_STOPPED, stoppedLineNumber));
+        }
+        for (String failure : failures.subList(0, Math.min(failures.size(), MAX_REPORTED_FAILURES))) {
+            message.append('\n').append(failure);
+        }
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            message.append('\n').append(String.format(MESSAGE_MORE_FAILURES,
+                    failures.size() - MAX_REPORTED_FAILURES));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptFilePath.equals(otherRunCommand.scriptFilePath)
+                && isStoppedOnError == otherRunCommand.isStoppedOnError;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFilePath", scriptFilePath)
+                .add("isStoppedOnError", isStoppedOnError)
+                .toString();
+    }
+}
@@ -3,13 +3,12 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Comparator;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
 
 /**
  * Sorts all persons in the contact book for the user.
@@ -29,8 +28,8 @@ public class SortCommand extends Command {
 
     private static final Logger logger = LogsCenter.getLogger(SortCommand.class);
 
-    private String field;
-    private String order;
+    private final String field;
+    private final String order;
 
     /**
      * Creates a SortCommand object with field and order
@@ -46,12 +45,16 @@ public class SortCommand extends Command {
         logger.fine("SortCommand created with field: " + field + ", order: " + order);
     }
 
+    @Override
+    public boolean isReusable() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         logger.info("Executing sort command with field: " + field + ", order: " + order);
 
-        Comparator<Person> comparator = getComparator();
-        model.sortPersons(comparator);
+        model.sortPersons(getSortOrder());
 
         logger.info("Sort command executed successfully. "
                 + "Sorted by " + field + " in " + getOrderFullFormat() + " order");
@@ -73,22 +76,17 @@ public class SortCommand extends Command {
         return this.field.equals(other.field) && this.order.equals(other.order);
     }
 
-    private Comparator<Person> getComparator() throws CommandException {
-        Comparator<Person> comparator;
+    private SortOrder getSortOrder() throws CommandException {
+        SortOrder.Field sortField;
 
         switch (field.toLowerCase()) {
         case "name":
-            logger.fine("Creating name comparator");
-            comparator = Comparator.comparing(person -> person.getName().toString(), String.CASE_INSENSITIVE_ORDER);
+            logger.fine("Sorting by name");
+            sortField = SortOrder.Field.NAME;
             break;
         case "tag":
-            logger.fine("Creating tag comparator");
-            comparator = Comparator.comparing(person ->
-                    person.getTags().stream()
-                          .map(tag -> tag.tagName.toLowerCase())
-                          .sorted()
-                          .findFirst()
-                          .orElse(""));
+            logger.fine("Sorting by tag");
+            sortField = SortOrder.Field.TAG;
             break;
         default:
             logger.warning("Invalid field specified: " + field);
@@ -99,11 +97,11 @@ public class SortCommand extends Command {
         case "asc":
         case "ascending":
             logger.fine("Applying ascending order");
-            return comparator;
+            return new SortOrder(sortField, false);
         case "desc":
         case "descending":
             logger.fine("Applying descending order");
-            return comparator.reversed();
+            return new SortOrder(sortField, true);
         default:
             logger.warning("Invalid order specified: " + order);
             throw new CommandException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
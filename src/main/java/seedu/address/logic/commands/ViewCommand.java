@@ -18,7 +18,7 @@ public class ViewCommand extends Command {
 
     public static final String TOGGLE_ACKNOWLEDGEMENT = "Toggling Detail Pane";
 
-    private Integer targetIndex;
+    private final Integer targetIndex;
 
     public ViewCommand() {
         this.targetIndex = null;
@@ -28,6 +28,11 @@ public class ViewCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public boolean isReusable() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         if (targetIndex == null) {
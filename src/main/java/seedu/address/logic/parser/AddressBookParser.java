@@ -3,9 +3,11 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
@@ -19,22 +21,58 @@ import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ *
+ * Each command word has a parser that is created once and reused, since parsers keep no state. Commands that are
+ * safe to reuse are also cached by their exact input, so that input repeated from the command history or a script
+ * is not parsed again.
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    /** Number of parsed commands kept for reuse. */
+    public static final int CACHE_SIZE = 64;
+
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private static final Map<String, Parser<?>> PARSERS = createParsers();
+
+    /** Recently parsed reusable commands, keyed by their input and evicted least recently used first. */
+    private final Map<String, Command> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Command> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    private static Map<String, Parser<?>> createParsers() {
+        Map<String, Parser<?>> parsers = new HashMap<>();
+        parsers.put(AddCommandBasic.COMMAND_WORD, new AddCommandBasicParser());
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, new ClearCommandParser());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        parsers.put(SortCommand.COMMAND_WORD, new SortCommandParser());
+        parsers.put(FilterCommand.COMMAND_WORD, new FilterCommandParser());
+        parsers.put(ViewCommand.COMMAND_WORD, new ViewCommandParser());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        parsers.put(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        parsers.put(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        parsers.put(RunCommand.COMMAND_WORD, new RunCommandParser());
+        return Collections.unmodifiableMap(parsers);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -43,64 +81,67 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        Command cachedCommand = cache.get(userInput);
+        if (cachedCommand != null) {
+            logger.fine("Reusing the command parsed from: " + userInput);
+            return cachedCommand;
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String trimmedInput = userInput.trim();
+        final int argumentsStart = indexOfWhitespace(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, argumentsStart);
+        final String arguments = trimmedInput.substring(argumentsStart);
+        if (commandWord.isEmpty() || containsLineBreak(arguments)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommandBasic.COMMAND_WORD:
-            return new AddCommandBasicParser().parse(arguments);
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case FilterCommand.COMMAND_WORD:
-            return new FilterCommandParser().parse(arguments);
-
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+        Parser<?> parser = PARSERS.get(commandWord);
+        if (parser == null) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+        Command command = parser.parse(arguments);
+        if (command.isReusable()) {
+            cache.put(userInput, command);
+        }
+        return command;
+    }
 
-        case ExportCommand.COMMAND_WORD:
-            return new ExportCommandParser().parse(arguments);
+    /**
+     * Returns the index of the first whitespace character in {@code input}, or its length if there is none.
+     */
+    private static int indexOfWhitespace(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (isWhitespace(input.charAt(i))) {
+                return i;
+            }
+        }
+        return input.length();
+    }
 
+    /**
+     * Returns true if {@code c} is a whitespace character, as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code arguments} spans more than one line, which commands do not accept.
+     */
+    private static boolean containsLineBreak(String arguments) {
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
         }
+        return false;
     }
 }
@@ -17,6 +17,17 @@ public class CliSyntax {
     public static final Prefix PREFIX_FIELD = new Prefix("f/");
     public static final Prefix PREFIX_ORDER = new Prefix("o/");
     public static final Prefix PREFIX_FILE_PATH = new Prefix("f/");
+    public static final Prefix PREFIX_STOP_ON_ERROR = new Prefix("s/");
+    public static final Prefix PREFIX_MERGE = new Prefix("m/");
+    public static final Prefix PREFIX_LISTED_ONLY = new Prefix("l/");
 
+    /**
+     * Returns every prefix defined above.
+     */
+    public static Prefix[] getAllPrefixes() {
+        return new Prefix[] {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_COMPANY, PREFIX_TAG, PREFIX_DETAIL,
+            PREFIX_TAG_ADD, PREFIX_TAG_DELETE, PREFIX_FIELD, PREFIX_ORDER, PREFIX_FILE_PATH, PREFIX_STOP_ON_ERROR,
+            PREFIX_MERGE, PREFIX_LISTED_ONLY};
+    }
 
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LISTED_ONLY;
 
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -12,19 +13,26 @@ import seedu.address.logic.parser.exceptions.ParseException;
  *  Slashes ("/", "\\" and ".") are not allowed.
  *  Multiple spaces are normalized into a single space.
  *  Only safe filename characters are allowed (letters, digits, spaces, '_', '-', '()')
+ *  The optional "l/" flag, which takes no value, exports only the contacts currently listed.
  *
  */
 public class ExportCommandParser implements Parser<ExportCommand> {
 
     @Override
     public ExportCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE_PATH);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE_PATH, PREFIX_LISTED_ONLY);
 
         // Check the uniqueness of prefix
         if (argMultimap.getAllValues(PREFIX_FILE_PATH).size() > 1) {
             throw new ParseException("Duplicate prefix 'f/' detected. Only one file name prefix is allowed.");
         }
 
+        // The listed-only flag takes no value and is given at most once
+        if (argMultimap.getAllValues(PREFIX_LISTED_ONLY).size() > 1
+                || !argMultimap.getValue(PREFIX_LISTED_ONLY).orElse("").isEmpty()) {
+            throw new ParseException("Invalid listed-only flag. Usage: export f/<filename> [l/]");
+        }
+
         // Check presence of prefix
         if (!argMultimap.getValue(PREFIX_FILE_PATH).isPresent()) {
             throw new ParseException("File name is required. Usage: export f/<filename>");
@@ -52,6 +60,6 @@ public class ExportCommandParser implements Parser<ExportCommand> {
             throw new ParseException("Invalid file name: '/' and '\\' are not allowed in file names.");
         }
 
-        return new ExportCommand(fileName);
+        return new ExportCommand(fileName, argMultimap.getValue(PREFIX_LISTED_ONLY).isPresent());
     }
 }
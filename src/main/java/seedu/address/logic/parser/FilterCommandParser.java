@@ -3,8 +3,12 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_ADD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_DELETE;
 
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.FilterCommand;
@@ -29,34 +33,46 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         requireNonNull(args);
         logger.fine("Parsing filter command with arguments: " + args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_TAG_ADD, PREFIX_TAG_DELETE);
         checkValidTokens(argMultimap);
 
-        TagsContainTagPredicate predicate =
-                new TagsContainTagPredicate(argMultimap.getAllValues(PREFIX_TAG).stream()
-                                                       .map(token -> token.toLowerCase())
-                                                       .distinct()
-                                                       .map(token -> new Tag(token))
-                                                       .toList());
+        TagsContainTagPredicate predicate = new TagsContainTagPredicate(
+                parseTags(argMultimap, PREFIX_TAG),
+                parseTags(argMultimap, PREFIX_TAG_ADD),
+                parseTags(argMultimap, PREFIX_TAG_DELETE));
 
         logger.info("Successfully parsed filter command with tags: "
-                + argMultimap.getAllValues(PREFIX_TAG));
+                + argMultimap.getAllValues(PREFIX_TAG)
+                + ", required tags: " + argMultimap.getAllValues(PREFIX_TAG_ADD)
+                + ", excluded tags: " + argMultimap.getAllValues(PREFIX_TAG_DELETE));
 
         return new FilterCommand(predicate);
     }
 
+    /**
+     * Returns the distinct tags given with {@code prefix}, in the order they first appear.
+     */
+    private List<Tag> parseTags(ArgumentMultimap argMultimap, Prefix prefix) {
+        return argMultimap.getAllValues(prefix).stream()
+                          .map(token -> token.toLowerCase())
+                          .distinct()
+                          .map(Tag::of)
+                          .toList();
+    }
+
     /**
      * Checks if the {@code argMultmap} object is valid after tokenizing.
      *
      * Checks include:
      * <ul>
-     *   <li>Check that PREFIX_TAG tokens exist</li>
+     *   <li>Check that at least one PREFIX_TAG, PREFIX_TAG_ADD or PREFIX_TAG_DELETE token exists</li>
      *   <li>Ensure that there is no input between filter and first prefix</li>
      *   <li>Ensure that there are no empty tags</li>
      *   <li>Ensure that all tags are valid names</li>
      * </ul>
      *
-     * Postcondition: argMultimap contains mapping for PREFIX_TAG
+     * Postcondition: argMultimap contains mapping for at least one tag prefix
      * where the mappings are valid tag names.
      * @param argMultimap Tokenized multimap to be checked
      * @throws ParseException If {@code argMultimap} is invalid
@@ -64,7 +80,11 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     private void checkValidTokens(ArgumentMultimap argMultimap) throws ParseException {
         String errorMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
 
-        if (!argMultimap.getValue(PREFIX_TAG).isPresent()) {
+        List<String> allTagNames = Stream.of(PREFIX_TAG, PREFIX_TAG_ADD, PREFIX_TAG_DELETE)
+                                         .flatMap(prefix -> argMultimap.getAllValues(prefix).stream())
+                                         .toList();
+
+        if (allTagNames.isEmpty()) {
             logger.warning("No tags provided in filter command");
             throw new ParseException(errorMessage);
         }
@@ -74,7 +94,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             throw new ParseException(errorMessage);
         }
 
-        boolean containsEmptyTag = argMultimap.getAllValues(PREFIX_TAG).stream()
+        boolean containsEmptyTag = allTagNames.stream()
                                               .map(tagName -> tagName.trim())
                                               .anyMatch(tagName -> tagName.isEmpty());
 
@@ -83,7 +103,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             throw new ParseException(errorMessage);
         }
 
-        if (argMultimap.getAllValues(PREFIX_TAG).stream()
+        if (allTagNames.stream()
                        .anyMatch(tagName -> !Tag.isValidTagName(tagName))) {
             logger.warning("Invalid tag name found in filter command");
             throw new ParseException(errorMessage);
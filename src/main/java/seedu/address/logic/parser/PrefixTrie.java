@@ -0,0 +1,111 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+
+/**
+ * A trie of prefixes, which finds the prefix starting at a position of an arguments string in one pass over its
+ * characters, rather than by comparing the string with each prefix in turn.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Creates a trie of the given {@code prefixes}. Empty prefixes are left out, since they would match anywhere.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            add(prefix);
+        }
+    }
+
+    private void add(Prefix prefix) {
+        String prefixString = prefix.getPrefix();
+        if (prefixString.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        for (int i = 0; i < prefixString.length(); i++) {
+            node = node.getOrAddChild(prefixString.charAt(i));
+        }
+        node.prefix = prefix;
+    }
+
+    /**
+     * Returns true if every non-empty prefix in {@code prefixes} is in this trie.
+     */
+    boolean containsAll(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            Node node = root;
+            for (int i = 0; i < prefixString.length() && node != null; i++) {
+                node = node.getChild(prefixString.charAt(i));
+            }
+            if (node == null || (node != root && !prefix.equals(node.prefix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the longest prefix in this trie that is one of {@code prefixes} and starts at {@code index} of
+     * {@code argsString}, or null if there is none.
+     */
+    Prefix match(String argsString, int index, Prefix... prefixes) {
+        Prefix longestMatch = null;
+        Node node = root;
+        for (int i = index; i < argsString.length(); i++) {
+            node = node.getChild(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null && isOneOf(node.prefix, prefixes)) {
+                longestMatch = node.prefix;
+            }
+        }
+        return longestMatch;
+    }
+
+    private static boolean isOneOf(Prefix prefix, Prefix... prefixes) {
+        for (Prefix other : prefixes) {
+            if (prefix.equals(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A node of the trie, which holds the prefix spelt by the path to it, if there is one.
+     * Children are kept in arrays, as a node has only a few of them.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Prefix prefix;
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                keys[keys.length - 1] = key;
+                children = Arrays.copyOf(children, children.length + 1);
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STOP_ON_ERROR;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "Invalid script file path: %1$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE_PATH, PREFIX_STOP_ON_ERROR);
+
+        // the stop flag takes no value
+        if (!argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(PREFIX_FILE_PATH).orElse("").isEmpty()
+                || !argMultimap.getValue(PREFIX_STOP_ON_ERROR).orElse("").isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE_PATH, PREFIX_STOP_ON_ERROR);
+
+        String filePath = argMultimap.getValue(PREFIX_FILE_PATH).get();
+        Path scriptFilePath;
+        try {
+            scriptFilePath = Paths.get(filePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, filePath), ipe);
+        }
+
+        return new RunCommand(scriptFilePath, argMultimap.getValue(PREFIX_STOP_ON_ERROR).isPresent());
+    }
+}
@@ -2,21 +2,54 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CompanyIndex;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.NameOrCompanyPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagIndex;
+import seedu.address.model.tag.TagsContainTagPredicate;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Secondary indexes over the persons are kept in sync by every person-level and list overwrite operation.
+ * Every such operation is also recorded as a numbered {@link AddressBookChange}, and the most recent changes are
+ * retained so that storage can persist what changed since it last saved.
+ *
+ * The persons can also be read lazily, so that a large contact book can be shown without building every person.
+ * They are all read, and the indexes built, the first time the contact book is changed or searched.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** Number of recent changes retained. Storage that falls further behind saves the whole contact book. */
+    static final int MAX_RETAINED_CHANGES = 1024;
+
     private final UniquePersonList persons;
+    /** Maps each non-placeholder email to the number of persons that use it, which may be more than one. */
+    private final Map<String, Integer> emailIndex = new HashMap<>();
+    private final TagIndex tagIndex = new TagIndex();
+    private final NameIndex nameIndex = new NameIndex();
+    private final CompanyIndex companyIndex = new CompanyIndex();
+    private final Deque<AddressBookChange> recentChanges = new ArrayDeque<>();
+    private long changeSequence = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -44,17 +77,38 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is a bulk operation that runs in time linear in the number of persons.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        rebuildIndexes();
+        recordReplacement();
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, which are only read as they are needed.
+     * {@code persons} must not change or contain duplicate persons.
+     */
+    public void setPersonsLazily(List<Person> persons) {
+        this.persons.setPersonsLazily(persons);
+        rebuildIndexes();
+        recordReplacement();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Persons that {@code newData} reads lazily are read lazily by this contact book as well.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // already known to be unique, so the identity index can be copied instead of rebuilt
+            persons.setPersons(((AddressBook) newData).persons);
+            rebuildIndexes();
+            recordReplacement();
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -65,15 +119,127 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPerson(Person person) {
         requireNonNull(person);
+        materialize();
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the contact book with the same identity as {@code person}, if there is one.
+     */
+    public Optional<Person> findSamePerson(Person person) {
+        requireNonNull(person);
+        materialize();
+        return persons.findSamePerson(person);
+    }
+
+    /**
+     * Returns true if a person in the contact book uses {@code email}.
+     * The placeholder email is never considered to be in use.
+     */
+    public boolean hasEmail(Email email) {
+        requireNonNull(email);
+        materialize();
+        return emailIndex.containsKey(email.value);
+    }
+
+    /**
+     * Returns the persons in the contact book that satisfy {@code predicate}, resolved from the tag index
+     * rather than by testing every person. The returned set compares persons by identity.
+     */
+    public Set<Person> findPersonsWithTags(TagsContainTagPredicate predicate) {
+        requireNonNull(predicate);
+        materialize();
+        return tagIndex.find(predicate);
+    }
+
+    /**
+     * Returns the persons in the contact book whose name equals {@code name}, ignoring case and extra whitespace.
+     */
+    public List<Person> findPersonsByName(String name) {
+        requireNonNull(name);
+        materialize();
+        return nameIndex.findByName(name);
+    }
+
+    /**
+     * Returns the persons in the contact book that satisfy {@code predicate}.
+     * Only the candidates from the name and company indexes are tested, intersected when both keywords are given.
+     * Name keywords too short to be looked up fall back to testing every person.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findPersons(NameOrCompanyPredicate predicate) {
+        requireNonNull(predicate);
+        materialize();
+        Optional<Set<Person>> nameCandidates = predicate.getNameKeyword().flatMap(nameIndex::findNameCandidates);
+        Optional<Set<Person>> companyCandidates = predicate.getCompanyKeywords().map(companyIndex::find);
+
+        Collection<Person> candidates;
+        if (nameCandidates.isPresent() && companyCandidates.isPresent()) {
+            candidates = intersect(nameCandidates.get(), companyCandidates.get());
+        } else if (nameCandidates.isPresent()) {
+            candidates = nameCandidates.get();
+        } else if (companyCandidates.isPresent()) {
+            candidates = companyCandidates.get();
+        } else {
+            candidates = persons.asUnmodifiableObservableList();
+        }
+
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person candidate : candidates) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons in both {@code first} and {@code second}, iterating over the smaller set.
+     */
+    private static List<Person> intersect(Set<Person> first, Set<Person> second) {
+        Set<Person> smaller = first.size() <= second.size() ? first : second;
+        Set<Person> larger = smaller == first ? second : first;
+        List<Person> intersection = new ArrayList<>();
+        for (Person person : smaller) {
+            if (larger.contains(person)) {
+                intersection.add(person);
+            }
+        }
+        return intersection;
+    }
+
     /**
      * Adds a contact to the contact book.
      * The person must not already exist in the contact book.
      */
     public void addPerson(Person p) {
+        materialize();
         persons.add(p);
+        indexPerson(p);
+        record(AddressBookChange.add(changeSequence + 1, p));
+    }
+
+    /**
+     * Adds every person in {@code toAdd} to the contact book, in order.
+     * None of them may already exist in the contact book or share an identity with another of them.
+     * This is a bulk operation that checks and indexes the persons in a single pass.
+     */
+    public void addPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        materialize();
+        persons.addAll(toAdd);
+        for (Person person : toAdd) {
+            indexPerson(person);
+        }
+
+        if (toAdd.size() > MAX_RETAINED_CHANGES) {
+            // too many to retain one by one, so storage is told to save the whole contact book
+            recordReplacement();
+            return;
+        }
+        for (Person person : toAdd) {
+            record(AddressBookChange.add(changeSequence + 1, person));
+        }
     }
 
     /**
@@ -83,8 +249,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
+        materialize();
 
-        persons.setPerson(target, editedPerson);
+        Person replaced = persons.setPerson(target, editedPerson);
+        // the indexes hold the stored person, which may be another instance than target
+        unindexPerson(replaced);
+        indexPerson(editedPerson);
+        record(AddressBookChange.set(changeSequence + 1, replaced.getId(), editedPerson));
     }
 
     /**
@@ -92,16 +263,168 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the contact book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        materialize();
+        Person removed = persons.remove(key);
+        unindexPerson(removed);
+        record(AddressBookChange.remove(changeSequence + 1, removed.getId()));
     }
 
     /**
      * Sorts the contact(s) in the contact book based on the given comparator.
+     * A sort in a {@link SortOrder} is recorded as that order. Any other comparator cannot be replayed, so the
+     * resulting order of every person is recorded instead.
      * @param comparator Comparator to sort the contact book.
      */
     public void sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        materialize();
         persons.sort(comparator);
+
+        if (comparator instanceof SortOrder) {
+            record(AddressBookChange.sort(changeSequence + 1, (SortOrder) comparator));
+            return;
+        }
+        long[] order = new long[persons.asUnmodifiableObservableList().size()];
+        int position = 0;
+        for (Person person : persons) {
+            order[position++] = person.getId();
+        }
+        record(AddressBookChange.reorder(changeSequence + 1, order));
+    }
+
+    /**
+     * Returns the person in the contact book with the given {@code id}, if there is one.
+     */
+    public Optional<Person> findPersonById(long id) {
+        materialize();
+        return persons.findById(id);
+    }
+
+    //// change tracking
+
+    @Override
+    public long getChangeSequence() {
+        return changeSequence;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long sequence) {
+        return getChangesSince(recentChanges, changeSequence, sequence);
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(this, persons.asUnmodifiableObservableList(), changeSequence, recentChanges);
+    }
+
+    /**
+     * Returns the changes in {@code retainedChanges} made after the change numbered {@code sequence},
+     * or {@code Optional.empty()} if some of them are not retained.
+     *
+     * @param retainedChanges the most recent changes, oldest first, ending with the change numbered
+     *                        {@code latestSequence}.
+     */
+    static Optional<List<AddressBookChange>> getChangesSince(Collection<AddressBookChange> retainedChanges,
+            long latestSequence, long sequence) {
+        if (sequence > latestSequence) {
+            return Optional.empty();
+        }
+        if (sequence == latestSequence) {
+            return Optional.of(Collections.emptyList());
+        }
+
+        if (retainedChanges.isEmpty() || retainedChanges.iterator().next().getSequence() > sequence + 1) {
+            // some of the changes are no longer retained
+            return Optional.empty();
+        }
+
+        List<AddressBookChange> changes = new ArrayList<>((int) (latestSequence - sequence));
+        for (AddressBookChange change : retainedChanges) {
+            if (change.getSequence() > sequence) {
+                changes.add(change);
+            }
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Records a replacement of the whole person list, which is a {@code CLEAR} if the list is now empty.
+     * Earlier changes are dropped since nothing can be rebuilt from them past this point.
+     */
+    private void recordReplacement() {
+        recentChanges.clear();
+        record(persons.asUnmodifiableObservableList().isEmpty()
+                ? AddressBookChange.clear(changeSequence + 1)
+                : AddressBookChange.reset(changeSequence + 1));
+    }
+
+    /**
+     * Records {@code change}, which must be numbered one after the latest change.
+     */
+    private void record(AddressBookChange change) {
+        assert change.getSequence() == changeSequence + 1;
+        changeSequence = change.getSequence();
+        recentChanges.addLast(change);
+        if (recentChanges.size() > MAX_RETAINED_CHANGES) {
+            recentChanges.removeFirst();
+        }
+    }
+
+    //// index maintenance
+
+    /**
+     * Adds {@code person} to every secondary index.
+     */
+    private void indexPerson(Person person) {
+        Email email = person.getEmail();
+        if (!email.isPlaceholder()) {
+            emailIndex.merge(email.value, 1, Integer::sum);
+        }
+        tagIndex.add(person);
+        nameIndex.add(person);
+        companyIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person} from every secondary index.
+     */
+    private void unindexPerson(Person person) {
+        Email email = person.getEmail();
+        if (!email.isPlaceholder()) {
+            // the count is dropped once it reaches zero, so only emails in use are kept
+            emailIndex.computeIfPresent(email.value, (unused, count) -> count == 1 ? null : count - 1);
+        }
+        tagIndex.remove(person);
+        nameIndex.remove(person);
+        companyIndex.remove(person);
+    }
+
+    /**
+     * Reads every person not read yet and builds the indexes over them.
+     * Does nothing if every person has been read already.
+     */
+    public void materialize() {
+        if (!persons.isMaterialized()) {
+            persons.materialize();
+            rebuildIndexes();
+        }
+    }
+
+    /**
+     * Rebuilds every secondary index from the current person list.
+     * The indexes stay empty while the persons are read lazily, until they are materialized.
+     */
+    private void rebuildIndexes() {
+        emailIndex.clear();
+        tagIndex.clear();
+        nameIndex.clear();
+        companyIndex.clear();
+        if (!persons.isMaterialized()) {
+            return;
+        }
+        for (Person person : persons) {
+            indexPerson(person);
+        }
     }
 
     //// util methods
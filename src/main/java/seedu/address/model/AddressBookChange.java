@@ -0,0 +1,150 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
+
+/**
+ * A change made to an {@code AddressBook}, numbered in the order the changes were made.
+ * Changes are recorded so that storage can persist what changed instead of the whole contact book.
+ * Persons are referred to by {@link Person#getId()}.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of change an {@code AddressBook} records.
+     */
+    public enum Type {
+        /** The person was added to the end of the list. */
+        ADD,
+        /** The person with the target id was replaced by the person. */
+        SET,
+        /** The person with the target id was removed. */
+        REMOVE,
+        /** The list was put into the given order of ids. */
+        REORDER,
+        /** The list was sorted in the given sort order. */
+        SORT,
+        /** Every person was removed. */
+        CLEAR,
+        /** The list was replaced by other persons, which only the whole contact book describes. */
+        RESET
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final Person person;
+    private final long targetId;
+    private final long[] order;
+    private final SortOrder sortOrder;
+
+    private AddressBookChange(long sequence, Type type, Person person, long targetId, long[] order,
+            SortOrder sortOrder) {
+        this.sequence = sequence;
+        this.type = type;
+        this.person = person;
+        this.targetId = targetId;
+        this.order = order;
+        this.sortOrder = sortOrder;
+    }
+
+    /**
+     * Returns a change that adds {@code person}.
+     */
+    public static AddressBookChange add(long sequence, Person person) {
+        return new AddressBookChange(sequence, Type.ADD, requireNonNull(person), 0, null, null);
+    }
+
+    /**
+     * Returns a change that replaces the person with id {@code targetId} by {@code person}.
+     */
+    public static AddressBookChange set(long sequence, long targetId, Person person) {
+        return new AddressBookChange(sequence, Type.SET, requireNonNull(person), targetId, null, null);
+    }
+
+    /**
+     * Returns a change that removes the person with id {@code targetId}.
+     */
+    public static AddressBookChange remove(long sequence, long targetId) {
+        return new AddressBookChange(sequence, Type.REMOVE, null, targetId, null, null);
+    }
+
+    /**
+     * Returns a change that puts the persons into the order of ids given by {@code order}.
+     */
+    public static AddressBookChange reorder(long sequence, long[] order) {
+        return new AddressBookChange(sequence, Type.REORDER, null, 0, requireNonNull(order), null);
+    }
+
+    /**
+     * Returns a change that sorts the persons in {@code sortOrder}.
+     */
+    public static AddressBookChange sort(long sequence, SortOrder sortOrder) {
+        return new AddressBookChange(sequence, Type.SORT, null, 0, null, requireNonNull(sortOrder));
+    }
+
+    /**
+     * Returns a change that removes every person.
+     */
+    public static AddressBookChange clear(long sequence) {
+        return new AddressBookChange(sequence, Type.CLEAR, null, 0, null, null);
+    }
+
+    /**
+     * Returns a change that replaces every person.
+     */
+    public static AddressBookChange reset(long sequence) {
+        return new AddressBookChange(sequence, Type.RESET, null, 0, null, null);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the added or replacing person of an {@code ADD} or {@code SET} change.
+     */
+    public Person getPerson() {
+        assert type == Type.ADD || type == Type.SET;
+        return person;
+    }
+
+    /**
+     * Returns the id of the replaced or removed person of a {@code SET} or {@code REMOVE} change.
+     */
+    public long getTargetId() {
+        assert type == Type.SET || type == Type.REMOVE;
+        return targetId;
+    }
+
+    /**
+     * Returns the ids of the persons in their new order of a {@code REORDER} change.
+     * The returned array must not be modified.
+     */
+    public long[] getOrder() {
+        assert type == Type.REORDER;
+        return order;
+    }
+
+    /**
+     * Returns the order the persons were sorted in of a {@code SORT} change.
+     */
+    public SortOrder getSortOrder() {
+        assert type == Type.SORT;
+        return sortOrder;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sequence", sequence)
+                .add("type", type)
+                .toString();
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of a contact book as it was at one change, which storage can read on another thread.
+ * Persons are immutable, so only the list of them is copied.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ReadOnlyAddressBook origin;
+    private final ObservableList<Person> persons;
+    private final long changeSequence;
+    private final List<AddressBookChange> recentChanges;
+
+    /**
+     * Creates a snapshot of {@code origin} that holds a copy of {@code persons} and {@code recentChanges}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook origin, List<Person> persons, long changeSequence,
+            Collection<AddressBookChange> recentChanges) {
+        requireNonNull(origin);
+        this.origin = origin.getOrigin();
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.changeSequence = changeSequence;
+        this.recentChanges = new ArrayList<>(recentChanges);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getChangeSequence() {
+        return changeSequence;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long sequence) {
+        return AddressBook.getChangesSince(recentChanges, changeSequence, sequence);
+    }
+
+    @Override
+    public ReadOnlyAddressBook getOrigin() {
+        return origin;
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("changeSequence", changeSequence)
+                .toString();
+    }
+}
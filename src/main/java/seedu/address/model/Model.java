@@ -2,13 +2,18 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.NameOrCompanyPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagsContainTagPredicate;
 
 /**
  * The API of the Model component.
@@ -55,11 +60,28 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the mutation epoch of the contact book, which increases whenever its data changes
+     * and stays the same otherwise.
+     */
+    long getMutationEpoch();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the contact book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the contact book with the same identity as {@code person}, if there is one.
+     */
+    Optional<Person> findSamePerson(Person person);
+
+    /**
+     * Returns true if a person in the contact book uses {@code email}.
+     * The placeholder email is never considered to be in use.
+     */
+    boolean hasEmail(Email email);
+
     /**
      * Deletes the given person.
      * The person must exist in the contact book.
@@ -72,6 +94,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons in one bulk operation.
+     * None of {@code persons} may already exist in the contact book or share an identity with another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the contact book.
@@ -79,6 +107,19 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Starts a batch of changes, such as the commands of a script.
+     * Until the batch ends, changes to the filter of the filtered person list are held back, and only the latest
+     * one is applied when the filtered person list is next read or the batch ends.
+     * Batches may be nested, and each one must be ended with {@link #endBatch()}.
+     */
+    void startBatch();
+
+    /**
+     * Ends the batch of changes started by the latest call to {@link #startBatch()}.
+     */
+    void endBatch();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -99,6 +140,40 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons matching {@code predicate}.
+     * Matches are resolved from the contact book's tag index instead of testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByTags(TagsContainTagPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matching {@code predicate}.
+     * Name and company keywords are resolved from the contact book's indexes instead of testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByNameOrCompany(NameOrCompanyPredicate predicate);
+
+    /**
+     * Returns the persons in the contact book whose name equals {@code name}, ignoring case and extra whitespace.
+     * @throws NullPointerException if {@code name} is null.
+     */
+    List<Person> findPersonsByName(String name);
+
+    /**
+     * Returns the persons in the filtered person list whose name equals {@code name},
+     * ignoring case and extra whitespace.
+     * @throws NullPointerException if {@code name} is null.
+     */
+    List<Person> findFilteredPersonsByName(String name);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons whose name equals {@code name},
+     * ignoring case and extra whitespace.
+     * @throws NullPointerException if {@code name} is null.
+     */
+    void updateFilteredPersonListByName(String name);
+
     /**
      * Sorts the contact(s) list based on the comparator provided.
      */
@@ -5,8 +5,15 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
@@ -14,8 +21,12 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameOrCompanyPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagsContainTagPredicate;
 
 /**
  * Represents the in-memory model of the contact book data.
@@ -29,6 +40,18 @@ public class ModelManager implements Model {
     private SimpleObjectProperty<Person> focusedPerson;
     private final CommandHistory commandHistory;
 
+    /** Number of batches of changes in progress, and the filter held back until they end. */
+    private int batchDepth;
+    private Predicate<Person> pendingPredicate;
+
+    /**
+     * The lookup that found the persons shown, when the filter was resolved from an index, with the condition it
+     * answers and the persons it found. The shown persons are kept up to date as persons are changed, by testing
+     * only the changed persons, so refiltering never tests every person against the condition.
+     */
+    private Supplier<Set<Person>> indexLookup;
+    private Predicate<Person> indexedPredicate;
+    private Set<Person> indexMatches;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,7 +59,8 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with contact book: " + addressBook + " and user prefs " + userPrefs);
+        // built only when logged, since listing every person reads persons that are read lazily
+        logger.fine(() -> "Initializing with contact book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
@@ -89,6 +113,10 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        if (indexLookup != null) {
+            // every person may have changed, so the lookup is made again
+            setIndexedPredicate(indexLookup, indexedPredicate);
+        }
     }
 
     @Override
@@ -96,12 +124,29 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getMutationEpoch() {
+        return addressBook.getChangeSequence();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findSamePerson(Person person) {
+        requireNonNull(person);
+        return addressBook.findSamePerson(person);
+    }
+
+    @Override
+    public boolean hasEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.hasEmail(email);
+    }
+
     @Override
     public void deletePerson(Person target) {
         requireNonNull(target);
@@ -118,6 +163,9 @@ public class ModelManager implements Model {
         logger.fine(() -> "Deleting person: " + target);
 
         addressBook.removePerson(target);
+        if (indexMatches != null) {
+            indexMatches.remove(target);
+        }
 
         if (addressBook.hasPerson(target)) {
             throw new AssertionError("Person should be removed from the contact book after deletion");
@@ -132,11 +180,30 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        // the filtered list tests the edited person as soon as it is set, so it is added to the matches first
+        boolean isEditedMatch = indexedPredicate != null && indexedPredicate.test(editedPerson);
+        boolean isNewMatch = isEditedMatch && indexMatches.add(editedPerson);
+        try {
+            addressBook.setPerson(target, editedPerson);
+        } catch (RuntimeException e) {
+            if (isNewMatch) {
+                indexMatches.remove(editedPerson);
+            }
+            throw e;
+        }
+        if (indexMatches != null && !(isEditedMatch && target.equals(editedPerson))) {
+            indexMatches.remove(target);
+        }
     }
 
     @Override
@@ -145,6 +212,20 @@ public class ModelManager implements Model {
         addressBook.sort(comparator);
     }
 
+    @Override
+    public void startBatch() {
+        batchDepth++;
+    }
+
+    @Override
+    public void endBatch() {
+        assert batchDepth > 0 : "A batch should be started before it is ended";
+        batchDepth--;
+        if (batchDepth == 0) {
+            applyPendingPredicate();
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -153,9 +234,47 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
+        applyPendingPredicate();
         return filteredPersons;
     }
 
+    /**
+     * Sets the filter of the filtered person list, or holds it back while a batch of changes is in progress,
+     * since refiltering goes over every person.
+     */
+    private void setPredicate(Predicate<Person> predicate) {
+        if (batchDepth > 0) {
+            pendingPredicate = predicate;
+            return;
+        }
+        filteredPersons.setPredicate(predicate);
+    }
+
+    /**
+     * Shows only the persons found by {@code lookup}, which finds the persons that satisfy {@code predicate} from
+     * an index. The persons are only looked up in the result, and {@code predicate} is only tested against persons
+     * changed afterwards.
+     */
+    private void setIndexedPredicate(Supplier<Set<Person>> lookup, Predicate<Person> predicate) {
+        Set<Person> matches = new HashSet<>(lookup.get());
+        indexLookup = lookup;
+        indexedPredicate = predicate;
+        indexMatches = matches;
+        setPredicate(matches::contains);
+    }
+
+    /**
+     * Applies the filter held back during a batch of changes, if there is one.
+     */
+    private void applyPendingPredicate() {
+        if (pendingPredicate == null) {
+            return;
+        }
+        Predicate<Person> predicate = pendingPredicate;
+        pendingPredicate = null;
+        filteredPersons.setPredicate(predicate);
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the local variable
      */
@@ -167,13 +286,55 @@ public class ModelManager implements Model {
     @Override
     public void updateFocusedPerson(int index) {
         requireAllNonNull(index);
+        applyPendingPredicate();
         focusedPerson.set(filteredPersons.get(index));
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        indexLookup = null;
+        indexedPredicate = null;
+        indexMatches = null;
+        setPredicate(predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonListByTags(TagsContainTagPredicate predicate) {
+        requireNonNull(predicate);
+        setIndexedPredicate(() -> addressBook.findPersonsWithTags(predicate), predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonListByNameOrCompany(NameOrCompanyPredicate predicate) {
+        requireNonNull(predicate);
+        setIndexedPredicate(() -> addressBook.findPersons(predicate), predicate);
+    }
+
+    @Override
+    public List<Person> findPersonsByName(String name) {
+        requireNonNull(name);
+        return addressBook.findPersonsByName(name);
+    }
+
+    @Override
+    public List<Person> findFilteredPersonsByName(String name) {
+        requireNonNull(name);
+        List<Person> namesakes = addressBook.findPersonsByName(name);
+        applyPendingPredicate();
+        Predicate<? super Person> shown = filteredPersons.getPredicate();
+        if (shown == null) {
+            return namesakes;
+        }
+        return namesakes.stream().filter(shown).collect(Collectors.toList());
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(String name) {
+        requireNonNull(name);
+        String lowerCaseName = Name.normalize(name).toLowerCase(Locale.ROOT);
+        setIndexedPredicate(() -> new HashSet<>(addressBook.findPersonsByName(name)),
+                person -> person.getName().getLowerCaseName().equals(lowerCaseName));
     }
 
     @Override
@@ -1,5 +1,9 @@
 package seedu.address.model;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +18,36 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the number of the latest change made to this contact book, or 0 if it has not been changed.
+     * The number only ever increases, so it also serves as the mutation epoch of the contact book.
+     */
+    default long getChangeSequence() {
+        return 0;
+    }
+
+    /**
+     * Returns the changes made after the change numbered {@code sequence}, oldest first,
+     * or {@code Optional.empty()} if they are not all known.
+     */
+    default Optional<List<AddressBookChange>> getChangesSince(long sequence) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the contact book whose changes {@link #getChangeSequence()} counts, which is this contact book
+     * unless it is a snapshot of another.
+     */
+    default ReadOnlyAddressBook getOrigin() {
+        return this;
+    }
+
+    /**
+     * Returns an immutable copy of this contact book, including the changes it knows of.
+     * The copy can be read on another thread while this contact book goes on changing.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(this, getPersonList(), getChangeSequence(), Collections.emptyList());
+    }
+
 }
@@ -3,6 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Person's company in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompany(String)}
@@ -19,17 +26,58 @@ public class Company {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    /** Separates the words of a company, which are matched exactly by company searches. */
+    public static final String WORD_SEPARATOR_REGEX = "\\s+";
+
+    /** The most distinct companies shared at a time; further ones are still created, but unshared. */
+    private static final int MAX_POOLED = 10_000;
+    private static final InternPool<Company> POOL = new InternPool<>(Company::new, MAX_POOLED);
+
     public final String value;
 
+    /** {@code value} in lower case, computed once so that searches do not allocate. */
+    private final String lowerCaseValue;
+
+    /** The whitespace-separated words of {@code lowerCaseValue}. */
+    private final List<String> lowerCaseWords;
+
     /**
      * Constructs a {@code Company}.
      *
      * @param company A valid company.
      */
     public Company(String company) {
+        this(company, false);
+    }
+
+    /**
+     * Constructs a {@code Company}, which is validated unless {@code isTrusted}.
+     */
+    private Company(String company, boolean isTrusted) {
         requireNonNull(company);
-        checkArgument(isValidCompany(company), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidCompany(company), MESSAGE_CONSTRAINTS);
+        }
         value = company;
+        lowerCaseValue = company.toLowerCase(Locale.ROOT);
+        lowerCaseWords = Collections.unmodifiableList(Arrays.asList(lowerCaseValue.split(WORD_SEPARATOR_REGEX)));
+    }
+
+    /**
+     * Returns the shared {@code Company} for {@code company}, so that colleagues hold their company once.
+     *
+     * @param company A valid company.
+     */
+    public static Company of(String company) {
+        return POOL.intern(company);
+    }
+
+    /**
+     * Returns the shared {@code Company} for {@code company} like {@link #of(String)}, but without validating it.
+     * Used when loading a trusted data file, whose companies were validated before they were saved.
+     */
+    public static Company fromTrusted(String company) {
+        return POOL.intern(company, trusted -> new Company(trusted, true));
     }
 
     /**
@@ -42,6 +90,14 @@ public class Company {
         return withinLength && isMatch;
     }
 
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
+
+    public List<String> getLowerCaseWords() {
+        return lowerCaseWords;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from each lower-case company word to the persons whose company contains that word.
+ * Company searches match whole words, so a search resolves with one lookup per keyword word.
+ */
+public class CompanyIndex {
+
+    private final Map<String, Set<Person>> wordPostings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : person.getCompany().getLowerCaseWords()) {
+            wordPostings.computeIfAbsent(word, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person is not in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : person.getCompany().getLowerCaseWords()) {
+            Set<Person> postings = wordPostings.get(word);
+            if (postings != null && postings.remove(person) && postings.isEmpty()) {
+                wordPostings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        wordPostings.clear();
+    }
+
+    /**
+     * Returns the indexed persons whose company contains any of {@code lowerCaseWords} as a whole word.
+     */
+    public Set<Person> find(Collection<String> lowerCaseWords) {
+        requireNonNull(lowerCaseWords);
+        Set<Person> matches = new HashSet<>();
+        for (String word : lowerCaseWords) {
+            Set<Person> postings = wordPostings.get(word);
+            if (postings != null) {
+                matches.addAll(postings);
+            }
+        }
+        return matches;
+    }
+}
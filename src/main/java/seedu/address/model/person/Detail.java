@@ -24,11 +24,28 @@ public class Detail {
      * @param detail A valid detail.
      */
     public Detail(String detail) {
+        this(detail, false);
+    }
+
+    /**
+     * Constructs a {@code Detail}, which is validated unless {@code isTrusted}.
+     */
+    private Detail(String detail, boolean isTrusted) {
         requireNonNull(detail);
-        checkArgument(isValidDetail(detail), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidDetail(detail), MESSAGE_CONSTRAINTS);
+        }
         value = detail;
     }
 
+    /**
+     * Returns a {@code Detail} of {@code detail} without validating it.
+     * Used when loading a trusted data file, whose details were validated before they were saved.
+     */
+    public static Detail fromTrusted(String detail) {
+        return new Detail(detail, true);
+    }
+
     /**
      * Returns true if a given string is a valid detail value.
      */
@@ -32,6 +32,9 @@ public class Email {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    /** Email given to contacts added without one. It may be shared by any number of contacts. */
+    public static final String PLACEHOLDER = "unknown@example.com";
+
     public final String value;
 
     /**
@@ -40,11 +43,28 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    /**
+     * Constructs an {@code Email}, which is validated unless {@code isTrusted}.
+     */
+    private Email(String email, boolean isTrusted) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email.toLowerCase();
     }
 
+    /**
+     * Returns an {@code Email} of {@code email} without validating it.
+     * Used when loading a trusted data file, whose emails were validated before they were saved.
+     */
+    public static Email fromTrusted(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -55,6 +75,13 @@ public class Email {
         return withinLength && isMatch;
     }
 
+    /**
+     * Returns true if this email is the {@link #PLACEHOLDER} email.
+     */
+    public boolean isPlaceholder() {
+        return PLACEHOLDER.equals(value);
+    }
+
     @Override
     public String toString() {
         return value;
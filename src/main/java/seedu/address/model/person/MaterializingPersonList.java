@@ -0,0 +1,158 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * The backing list of a {@link UniquePersonList}.
+ * Besides holding persons like an ordinary list, it can show the persons of a read-only source that builds each
+ * person only when it is read, such as a data file mapped into memory. The persons are copied out of the source
+ * before the first change, so that changes never reach it.
+ */
+class MaterializingPersonList extends ModifiableObservableListBase<Person> {
+
+    /** The source of the persons, or null once they are all held by {@code persons}. */
+    private List<Person> source;
+    private ArrayList<Person> persons = new ArrayList<>();
+
+    @Override
+    public Person get(int index) {
+        return source != null ? source.get(index) : persons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source != null ? source.size() : persons.size();
+    }
+
+    /**
+     * Returns true if every person is held by this list rather than read from a source.
+     */
+    boolean isMaterialized() {
+        return source == null;
+    }
+
+    /**
+     * Returns the source the persons are read from, or null if the list is materialized.
+     */
+    List<Person> getSource() {
+        return source;
+    }
+
+    /**
+     * Replaces the contents of this list with the persons of {@code source}, which are read only when needed.
+     * {@code source} must not change.
+     */
+    void setSource(List<Person> source) {
+        requireNonNull(source);
+        replaceContents(source, new ArrayList<>());
+    }
+
+    /**
+     * Copies the persons of the source into this list, reading every person that has not been read yet.
+     * Listeners are not notified, since the contents stay the same.
+     */
+    void materialize() {
+        if (source != null) {
+            persons = new ArrayList<>(source);
+            source = null;
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, Person element) {
+        materialize();
+        persons.add(index, element);
+    }
+
+    @Override
+    protected Person doSet(int index, Person element) {
+        materialize();
+        return persons.set(index, element);
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        materialize();
+        return persons.remove(index);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code col} as a single change, without reading the persons
+     * being replaced.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Person> col) {
+        replaceContents(null, new ArrayList<>(col));
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        setAll(Collections.emptyList());
+    }
+
+    /**
+     * Sorts this list with {@code comparator} and notifies listeners of a single permutation.
+     * The sort is stable.
+     */
+    @Override
+    public void sort(Comparator<? super Person> comparator) {
+        requireNonNull(comparator);
+        materialize();
+
+        Integer[] order = new Integer[persons.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (first, second) -> comparator.compare(persons.get(first), persons.get(second)));
+
+        int[] permutation = new int[order.length];
+        ArrayList<Person> sorted = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; i++) {
+            permutation[order[i]] = i;
+            sorted.add(persons.get(order[i]));
+        }
+        persons = sorted;
+        modCount++;
+
+        if (!sorted.isEmpty()) {
+            beginChange();
+            nextPermutation(0, sorted.size(), permutation);
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the source and the held persons with {@code newSource} and {@code newPersons}.
+     * The replaced contents are handed to listeners as they are, so persons not yet read from the old source are
+     * only read if a listener needs them.
+     */
+    private void replaceContents(List<Person> newSource, ArrayList<Person> newPersons) {
+        List<Person> removed = source != null ? source : persons;
+        source = newSource;
+        persons = newPersons;
+        modCount++;
+
+        beginChange();
+        try {
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (size() > 0) {
+                nextAdd(0, size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the contact book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -23,16 +25,46 @@ public class Name {
 
     public final String fullName;
 
+    /** {@code fullName} in lower case, computed once so that comparisons and searches do not allocate. */
+    private final String lowerCaseName;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    /**
+     * Constructs a {@code Name}, which is normalized and validated unless {@code isTrusted}.
+     */
+    private Name(String name, boolean isTrusted) {
         requireNonNull(name);
-        String normalized = name.trim().replaceAll("\\s+", " ");
-        checkArgument(isValidName(normalized), MESSAGE_CONSTRAINTS);
+        String normalized = name;
+        if (!isTrusted) {
+            normalized = normalize(name);
+            checkArgument(isValidName(normalized), MESSAGE_CONSTRAINTS);
+        }
         fullName = normalized;
+        lowerCaseName = normalized.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a {@code Name} of {@code name} without normalizing or validating it.
+     * Only for values known to be valid, such as those read back from a data file whose checksum shows it is
+     * unchanged since the application wrote it.
+     */
+    public static Name fromTrusted(String name) {
+        return new Name(name, true);
+    }
+
+    /**
+     * Returns {@code name} with leading and trailing whitespace removed and inner whitespace collapsed.
+     */
+    public static String normalize(String name) {
+        return name.trim().replaceAll("\\s+", " ");
     }
 
     /**
@@ -45,6 +77,9 @@ public class Name {
         return withinLength && isMatch;
     }
 
+    public String getLowerCaseName() {
+        return lowerCaseName;
+    }
 
     @Override
     public String toString() {
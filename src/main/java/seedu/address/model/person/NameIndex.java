@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An index over person names for exact name lookups and substring searches.
+ * Each lower-case name maps to the persons with that name, so name references resolve without a scan.
+ * Every trigram (run of three characters) of a person's lower-case name maps to the persons whose name contains it.
+ * A name containing a keyword must contain every trigram of that keyword, so the persons posted under the keyword's
+ * rarest trigram are a complete set of candidates that only needs to be verified.
+ */
+public class NameIndex {
+
+    /** Number of characters in a gram. Keywords shorter than this cannot be looked up. */
+    public static final int GRAM_LENGTH = 3;
+
+    /**
+     * Each character of a trigram takes 7 bits of its key, which fits ASCII. Valid names only contain ASCII
+     * characters, and trigrams with any other character are neither indexed nor looked up.
+     */
+    private static final int BITS_PER_CHAR = 7;
+    private static final int MAX_CHAR = (1 << BITS_PER_CHAR) - 1;
+
+    private final Map<String, List<Person>> personsByName = new HashMap<>();
+    private final Map<Integer, Set<Person>> trigramPostings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String name = person.getName().getLowerCaseName();
+        personsByName.computeIfAbsent(name, unused -> new ArrayList<>(1)).add(person);
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            if (isIndexable(name, i)) {
+                trigramPostings.computeIfAbsent(trigramKey(name, i), unused -> new HashSet<>()).add(person);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person is not in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String name = person.getName().getLowerCaseName();
+        List<Person> namesakes = personsByName.get(name);
+        if (namesakes != null && namesakes.remove(person) && namesakes.isEmpty()) {
+            personsByName.remove(name);
+        }
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            if (!isIndexable(name, i)) {
+                continue;
+            }
+            int key = trigramKey(name, i);
+            Set<Person> postings = trigramPostings.get(key);
+            if (postings != null && postings.remove(person) && postings.isEmpty()) {
+                trigramPostings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        personsByName.clear();
+        trigramPostings.clear();
+    }
+
+    /**
+     * Returns the indexed persons whose name equals {@code name}, ignoring case and extra whitespace.
+     */
+    public List<Person> findByName(String name) {
+        requireNonNull(name);
+        List<Person> namesakes = personsByName.get(Name.normalize(name).toLowerCase(Locale.ROOT));
+        return namesakes == null ? Collections.emptyList() : List.copyOf(namesakes);
+    }
+
+    /**
+     * Returns a superset of the indexed persons whose lower-case name contains {@code lowerCaseKeyword},
+     * or {@code Optional.empty()} if the keyword has no trigram that can be looked up, such as when it is shorter
+     * than {@link #GRAM_LENGTH}.
+     * Candidates still have to be verified against the keyword. The returned set must not be modified.
+     */
+    public Optional<Set<Person>> findNameCandidates(String lowerCaseKeyword) {
+        requireNonNull(lowerCaseKeyword);
+
+        Set<Person> rarest = null;
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseKeyword.length(); i++) {
+            if (!isIndexable(lowerCaseKeyword, i)) {
+                // not indexed, so it cannot narrow down the candidates
+                continue;
+            }
+            Set<Person> postings = trigramPostings.get(trigramKey(lowerCaseKeyword, i));
+            if (postings == null) {
+                // no name contains this trigram, so no name can contain the keyword
+                return Optional.of(Collections.emptySet());
+            }
+            if (rarest == null || postings.size() < rarest.size()) {
+                rarest = postings;
+            }
+        }
+        return Optional.ofNullable(rarest).map(Collections::unmodifiableSet);
+    }
+
+    /**
+     * Returns true if every character of the trigram starting at {@code start} can be packed into a key.
+     */
+    private static boolean isIndexable(String text, int start) {
+        for (int i = start; i < start + GRAM_LENGTH; i++) {
+            if (text.charAt(i) > MAX_CHAR) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Packs the trigram of {@code text} starting at {@code start} into an int.
+     */
+    private static int trigramKey(String text, int start) {
+        return (text.charAt(start) << (2 * BITS_PER_CHAR))
+                | (text.charAt(start + 1) << BITS_PER_CHAR)
+                | text.charAt(start + 2);
+    }
+}
@@ -2,11 +2,10 @@ package seedu.address.model.person;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s name or company contains the given keyword(s).
  * Name and company both support partial (substring) search, case-insensitive.
@@ -14,6 +13,8 @@ import seedu.address.commons.util.StringUtil;
 public class NameOrCompanyPredicate implements Predicate<Person> {
     private final Optional<String> nameKeyword;
     private final Optional<String> companyKeyword;
+    /** The words of {@code companyKeyword}, any of which must be a word of the person's company. */
+    private final Optional<List<String>> companyKeywords;
 
     /**
      * Constructs a {@code NameOrCompanyPredicate} using the provided optional keywords
@@ -32,28 +33,38 @@ public class NameOrCompanyPredicate implements Predicate<Person> {
      *                       a person's company, or an empty {@code Optional} if not specified
      */
     public NameOrCompanyPredicate(Optional<String> nameKeyword, Optional<String> companyKeyword) {
-        this.nameKeyword = nameKeyword.map(String::toLowerCase);
-        this.companyKeyword = companyKeyword.map(String::toLowerCase);
+        this.nameKeyword = nameKeyword.map(keyword -> keyword.toLowerCase(Locale.ROOT));
+        this.companyKeyword = companyKeyword.map(keyword -> keyword.toLowerCase(Locale.ROOT));
+        this.companyKeywords = this.companyKeyword
+                .map(keyword -> Arrays.asList(keyword.trim().split(Company.WORD_SEPARATOR_REGEX)));
+    }
+
+    /**
+     * Returns the lower-case name keyword, if one was given.
+     */
+    public Optional<String> getNameKeyword() {
+        return nameKeyword;
+    }
+
+    /**
+     * Returns the lower-case words of the company keyword, if one was given.
+     */
+    public Optional<List<String>> getCompanyKeywords() {
+        return companyKeywords;
     }
 
+    /**
+     * Returns true if {@code person} matches the keywords.
+     * The predicate is tested against every person shown, so it reads only the precomputed lower-case fields of the
+     * person and allocates nothing.
+     */
     @Override
     public boolean test(Person person) {
-        String name = person.getName().fullName.toLowerCase();
-        String company = person.getCompany().value.toLowerCase();
-
-        boolean nameMatch = nameKeyword.map(k -> StringUtil.containsIgnoreCase(name, k)).orElse(false);
+        // keywords are lower-cased on construction, so a plain substring check is case-insensitive
+        boolean nameMatch = nameKeyword.isPresent() && person.getName().getLowerCaseName().contains(nameKeyword.get());
         // Company keyword search — exact word matching (case-insensitive)
-        boolean companyMatch = companyKeyword.map(keyword -> {
-            // Split user input into words
-            String[] keywords = keyword.toLowerCase().split("\\s+");
-
-            // Split the person's company field into words
-            List<String> companyWords = Arrays.asList(company.toLowerCase().split("\\s+"));
-
-            // Check if any user keyword matches any company word
-            return Arrays.stream(keywords)
-                    .anyMatch(k -> companyWords.stream().anyMatch(w -> w.equals(k)));
-        }).orElse(false);
+        boolean companyMatch = companyKeywords.isPresent()
+                && containsAny(person.getCompany().getLowerCaseWords(), companyKeywords.get());
 
         // if both prefix exist, both must match
         if (nameKeyword.isPresent() && companyKeyword.isPresent()) {
@@ -64,6 +75,15 @@ public class NameOrCompanyPredicate implements Predicate<Person> {
         return nameMatch || companyMatch;
     }
 
+    private static boolean containsAny(List<String> words, List<String> keywords) {
+        for (int i = 0; i < keywords.size(); i++) {
+            if (words.contains(keywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -1,21 +1,35 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the contact book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Every person also carries a positive id that stays the same when the person is edited and is saved with the
+ * contact book. The id is a handle for finding the person, not part of its data, so it takes no part in equality.
  */
 public class Person {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Person ids should be positive numbers";
+
+    /** Separates the name and phone components of an identity key. Names and phones can never contain it. */
+    private static final char IDENTITY_KEY_SEPARATOR = '/';
+
+    /** The largest id handed out or seen so far, so that new ids never collide with existing ones. */
+    private static final AtomicLong LAST_ASSIGNED_ID = new AtomicLong();
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,19 +38,38 @@ public class Person {
     // Data fields
     private final Company company;
     private final Detail detail;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+
+    // Derived keys, computed once since every field is immutable
+    private final String identityKey;
+    private final int hashCode;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The person is given a new id.
      */
     public Person(Name name, Phone phone, Email email, Company company, Detail detail, Set<Tag> tags) {
+        this(LAST_ASSIGNED_ID.incrementAndGet(), name, phone, email, company, detail, tags);
+    }
+
+    /**
+     * Creates a person with an existing {@code id}, such as an edited or a loaded person.
+     * Every field must be present and not null, and {@code id} must be valid as declared in {@link #isValidId(long)}.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Company company, Detail detail, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, company, detail, tags);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        LAST_ASSIGNED_ID.accumulateAndGet(id, Math::max);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.company = company;
         this.detail = detail;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        // Name already trims and collapses whitespace, so only case needs folding
+        this.identityKey = name.getLowerCaseName() + IDENTITY_KEY_SEPARATOR + phone.value;
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(name, phone, email, company, detail, this.tags);
     }
 
     /**
@@ -46,6 +79,17 @@ public class Person {
         this(name, phone, email, company, new Detail(""), tags);
     }
 
+    /**
+     * Returns true if a given number is a valid person id.
+     */
+    public static boolean isValidId(long test) {
+        return test > 0;
+    }
+
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -71,7 +115,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -86,18 +130,16 @@ public class Person {
             return false;
         }
 
-        String thisName = normalizeName(this.name.fullName);
-        String otherName = normalizeName(otherPerson.name.fullName);
-
-        return thisName.equalsIgnoreCase(otherName)
-                && this.phone.equals(otherPerson.phone);
+        return identityKey.equals(otherPerson.identityKey);
     }
 
     /**
-     * Normalize a name string by trimming and collapsing multiple spaces into one.
+     * Returns the key that identifies this person for duplicate detection: the normalized, case-folded name
+     * together with the phone number. Two persons have the same key if and only if {@link #isSamePerson(Person)}
+     * holds between them, so the key can be used for hashed identity lookups.
      */
-    private static String normalizeName(String name) {
-        return name.trim().replaceAll("\\s+", " ");
+    public String getIdentityKey() {
+        return identityKey;
     }
 
     /**
@@ -116,7 +158,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && company.equals(otherPerson.company)
@@ -126,8 +169,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, company, detail, tags);
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An order to sort persons in, given by the field sorted on and the direction.
+ * Unlike an arbitrary comparator, it can be recorded and replayed, so a sort in this order is persisted without
+ * listing every person. Sorting is stable, so replaying the sort on the same list gives the same order.
+ */
+public class SortOrder implements Comparator<Person> {
+
+    /**
+     * The fields persons can be sorted on.
+     */
+    public enum Field {
+        /** The lower-case name. */
+        NAME,
+        /** The alphabetically smallest lower-case tag name, with persons without tags first. */
+        TAG
+    }
+
+    private final Field field;
+    private final boolean isDescending;
+    private final Comparator<Person> comparator;
+
+    /**
+     * Creates an order that sorts persons on {@code field}, in descending order if {@code isDescending}.
+     */
+    public SortOrder(Field field, boolean isDescending) {
+        requireNonNull(field);
+        this.field = field;
+        this.isDescending = isDescending;
+        Comparator<Person> ascending = field == Field.NAME
+                ? Comparator.comparing(person -> person.getName().getLowerCaseName())
+                : Comparator.comparing(SortOrder::getFirstLowerCaseTagName);
+        this.comparator = isDescending ? ascending.reversed() : ascending;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return comparator.compare(first, second);
+    }
+
+    /**
+     * Returns the alphabetically smallest lower-case tag name of {@code person},
+     * or an empty string if the person has no tags.
+     */
+    private static String getFirstLowerCaseTagName(Person person) {
+        String first = null;
+        for (Tag tag : person.getTags()) {
+            String tagName = tag.getLowerCaseTagName();
+            if (first == null || tagName.compareTo(first) < 0) {
+                first = tagName;
+            }
+        }
+        return first == null ? "" : first;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortOrder)) {
+            return false;
+        }
+
+        SortOrder otherSortOrder = (SortOrder) other;
+        return field == otherSortOrder.field && isDescending == otherSortOrder.isDescending;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, isDescending);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("isDescending", isDescending)
+                .toString();
+    }
+}
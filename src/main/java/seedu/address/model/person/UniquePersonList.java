@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,22 +22,46 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from a hash index keyed on {@code Person#getIdentityKey()}, which is kept in sync
+ * with the backing list by every mutating operation. Persons are located for replacement and removal through a map
+ * from {@code Person#getId()} to list position, so neither operation scans the list.
+ *
+ * The list can also show persons that are read lazily, such as from a data file mapped into memory. The indexes are
+ * only built, and every person read, by {@link #materialize()}, which operations that need the indexes call first.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final MaterializingPersonList internalList = new MaterializingPersonList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> identityIndex = new HashMap<>();
+    /**
+     * Maps the id of every person in the list to its position. Removals and sorting move persons, so positions
+     * from {@code stalePositionsFrom} onwards may be out of date until they are next needed.
+     */
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int stalePositionsFrom = 0;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        materialize();
+        return identityIndex.containsKey(toCheck.getIdentityKey());
+    }
+
+    /**
+     * Returns the person in the list with the same identity as {@code person}, if there is one.
+     */
+    public Optional<Person> findSamePerson(Person person) {
+        requireNonNull(person);
+        materialize();
+        return Optional.ofNullable(identityIndex.get(person.getIdentityKey()));
     }
 
     /**
@@ -43,59 +70,189 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        materialize();
+        if (positions.containsKey(toAdd.getId())
+                || identityIndex.putIfAbsent(toAdd.getIdentityKey(), toAdd) != null) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        positions.put(toAdd.getId(), internalList.size() - 1);
+        if (stalePositionsFrom == internalList.size() - 1) {
+            stalePositionsFrom++;
+        }
+    }
+
+    /**
+     * Adds every person in {@code toAdd} to the end of the list, keeping their order.
+     * None of them may already exist in the list or share an identity or id with another of them. If any does,
+     * the list is left unchanged. Listeners are notified of a single change, however many persons are added.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        materialize();
+        Map<String, Person> addedIndex = indexByIdentity(toAdd);
+        Map<Long, Integer> addedPositions = indexById(toAdd);
+        if (addedIndex == null || addedPositions == null) {
+            throw new DuplicatePersonException();
+        }
+        for (Person person : toAdd) {
+            if (identityIndex.containsKey(person.getIdentityKey()) || positions.containsKey(person.getId())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int offset = internalList.size();
+        internalList.addAll(toAdd);
+        identityIndex.putAll(addedIndex);
+        for (Map.Entry<Long, Integer> addedPosition : addedPositions.entrySet()) {
+            positions.put(addedPosition.getKey(), offset + addedPosition.getValue());
+        }
+        if (stalePositionsFrom == offset) {
+            stalePositionsFrom = internalList.size();
+        }
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * Returns the person that was replaced, which equals {@code target}.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        materialize();
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person replaced = internalList.get(index);
+        long targetId = replaced.getId();
+        if ((!target.isSamePerson(editedPerson) && contains(editedPerson))
+                || (editedPerson.getId() != targetId && positions.containsKey(editedPerson.getId()))) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        identityIndex.remove(target.getIdentityKey());
+        identityIndex.put(editedPerson.getIdentityKey(), editedPerson);
+        positions.remove(targetId);
+        positions.put(editedPerson.getId(), index);
+        return replaced;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     * Returns the person that was removed, which equals {@code toRemove}.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        materialize();
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.remove(index);
+        identityIndex.remove(removed.getIdentityKey());
+        positions.remove(removed.getId());
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        return removed;
     }
 
+    /**
+     * Returns the person in the list with the given {@code id}, if there is one.
+     */
+    public Optional<Person> findById(long id) {
+        materialize();
+        Integer position = positions.get(id);
+        if (position != null && position >= stalePositionsFrom) {
+            refreshStalePositions();
+            position = positions.get(id);
+        }
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        if (!replacement.isMaterialized()) {
+            setPersonsLazily(replacement.internalList.getSource());
+            return;
+        }
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        stalePositionsFrom = replacement.stalePositionsFrom;
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is checked in a single hashed pass and the backing list is filled with a single {@code setAll},
+     * so this is the preferred way to bulk-load a large number of persons.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<String, Person> replacementIndex = indexByIdentity(persons);
+        Map<Long, Integer> replacementPositions = indexById(persons);
+        if (replacementIndex == null || replacementPositions == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        positions.clear();
+        positions.putAll(replacementPositions);
+        stalePositionsFrom = persons.size();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which are only read as they are needed.
+     * {@code persons} must not change or contain duplicate persons.
+     */
+    public void setPersonsLazily(List<Person> persons) {
+        requireNonNull(persons);
+        internalList.setSource(persons);
+        identityIndex.clear();
+        positions.clear();
+        stalePositionsFrom = 0;
+    }
+
+    /**
+     * Returns true if every person in the list has been read and the indexes are built.
+     */
+    public boolean isMaterialized() {
+        return internalList.isMaterialized();
+    }
+
+    /**
+     * Reads every person not read yet and builds the indexes over the list.
+     * Does nothing if the list is already materialized.
+     *
+     * @throws DuplicatePersonException if the lazily read persons turn out to contain duplicate persons.
+     */
+    public void materialize() {
+        if (internalList.isMaterialized()) {
+            return;
+        }
+
+        internalList.materialize();
+        Map<String, Person> replacementIndex = indexByIdentity(internalList);
+        Map<Long, Integer> replacementPositions = indexById(internalList);
+        if (replacementIndex == null || replacementPositions == null) {
+            throw new DuplicatePersonException();
+        }
+        identityIndex.putAll(replacementIndex);
+        positions.putAll(replacementPositions);
+        stalePositionsFrom = internalList.size();
     }
 
     /**
@@ -136,25 +293,74 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns an identity index over {@code persons}, or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<String, Person> indexByIdentity(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>(capacityFor(persons.size()));
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getIdentityKey(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns the position of every person in {@code persons} keyed by id,
+     * or null if two persons in {@code persons} share an id.
+     */
+    private static Map<Long, Integer> indexById(List<Person> persons) {
+        Map<Long, Integer> index = new HashMap<>(capacityFor(persons.size()));
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(persons.get(i).getId(), i) != null) {
+                return null;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is none.
+     * The id map is tried first; a person that is equal to a listed person but has another id is found by a scan.
+     */
+    private int positionOf(Person person) {
+        Integer position = positions.get(person.getId());
+        if (position != null && position >= stalePositionsFrom) {
+            refreshStalePositions();
+            position = positions.get(person.getId());
+        }
+        if (position != null && internalList.get(position).equals(person)) {
+            return position;
+        }
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Brings the positions of the persons from {@code stalePositionsFrom} onwards up to date.
+     */
+    private void refreshStalePositions() {
+        for (int i = stalePositionsFrom; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+        stalePositionsFrom = internalList.size();
+    }
+
+    /**
+     * Returns a {@code HashMap} capacity that holds {@code expectedSize} entries without rehashing.
+     */
+    private static int capacityFor(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
     }
 
     /**
      * Sorts the person list based on the comparator.
+     * The identity index does not depend on positions, so it is left untouched.
      * @param comparator Comparator to sort the person list by.
      */
     public void sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        materialize();
         internalList.sort(comparator);
+        stalePositionsFrom = 0;
     }
 }
@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Tag in the contact book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,17 +18,53 @@ public class Tag {
             "Tags names should be alphanumeric and at most " + MAX_LENGTH + " characters";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** The most distinct tags shared at a time; further ones are still created, but unshared. */
+    private static final int MAX_POOLED = 10_000;
+    private static final InternPool<Tag> POOL = new InternPool<>(Tag::new, MAX_POOLED);
+
     public final String tagName;
 
+    /** {@code tagName} in lower case, which is what tag equality and hashing are based on. */
+    private final String lowerCaseTagName;
+    private final int hashCode;
+
     /**
      * Constructs a {@code Tag}.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    /**
+     * Constructs a {@code Tag}, which is validated unless {@code isTrusted}.
+     */
+    private Tag(String tagName, boolean isTrusted) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
+        this.lowerCaseTagName = tagName.toLowerCase(Locale.ROOT);
+        this.hashCode = lowerCaseTagName.hashCode();
+    }
+
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}, so that equal tags across persons are held once.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName);
+    }
+
+    /**
+     * Returns the shared {@code Tag} for {@code tagName} like {@link #of(String)}, but without validating it.
+     * Used when loading a trusted data file, whose tags were validated before they were saved.
+     */
+    public static Tag fromTrusted(String tagName) {
+        return POOL.intern(tagName, trusted -> new Tag(trusted, true));
     }
 
     /**
@@ -37,6 +77,10 @@ public class Tag {
         return bool1 && bool2;
     }
 
+    public String getLowerCaseTagName() {
+        return lowerCaseTagName;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -49,12 +93,12 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equalsIgnoreCase(otherTag.tagName);
+        return hashCode == otherTag.hashCode && lowerCaseTagName.equals(otherTag.lowerCaseTagName);
     }
 
     @Override
     public int hashCode() {
-        return tagName.toLowerCase().hashCode();
+        return hashCode;
     }
 
     /**
@@ -0,0 +1,130 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from each {@code Tag} to the set of persons that have it.
+ * Every indexed person is given an ordinal, and each tag maps to a {@code BitSet} over those ordinals,
+ * so tag queries resolve with bitwise union, intersection and difference instead of testing every person.
+ * Ordinals of removed persons are reused, which keeps the bitmaps dense.
+ */
+public class TagIndex {
+
+    private final Map<Tag, BitSet> tagBitmaps = new HashMap<>();
+    private final Map<Person, Integer> ordinals = new HashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final BitSet occupiedOrdinals = new BitSet();
+
+    /**
+     * Adds {@code person} to the index.
+     * The person must not already be in the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !ordinals.containsKey(person);
+
+        int ordinal = occupiedOrdinals.nextClearBit(0);
+        occupiedOrdinals.set(ordinal);
+        ordinals.put(person, ordinal);
+        if (ordinal == personsByOrdinal.size()) {
+            personsByOrdinal.add(person);
+        } else {
+            personsByOrdinal.set(ordinal, person);
+        }
+
+        for (Tag tag : person.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if the person is not in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+
+        for (Tag tag : person.getTags()) {
+            BitSet bitmap = tagBitmaps.get(tag);
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                tagBitmaps.remove(tag);
+            }
+        }
+        occupiedOrdinals.clear(ordinal);
+        personsByOrdinal.set(ordinal, null);
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        tagBitmaps.clear();
+        ordinals.clear();
+        personsByOrdinal.clear();
+        occupiedOrdinals.clear();
+    }
+
+    /**
+     * Returns the indexed persons that satisfy {@code query}, resolved from the tag bitmaps.
+     * The returned set compares persons by identity, so membership checks do not touch any person field.
+     */
+    public Set<Person> find(TagsContainTagPredicate query) {
+        requireNonNull(query);
+        BitSet matches = resolve(query);
+
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>(matches.cardinality()));
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            persons.add(personsByOrdinal.get(ordinal));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the ordinals of the persons that satisfy {@code query}.
+     * Semantics match {@link TagsContainTagPredicate#test(Person)}.
+     */
+    private BitSet resolve(TagsContainTagPredicate query) {
+        BitSet result = new BitSet();
+        if (!query.getTags().isEmpty()) {
+            for (Tag tag : query.getTags()) {
+                BitSet bitmap = tagBitmaps.get(tag);
+                if (bitmap != null) {
+                    result.or(bitmap);
+                }
+            }
+        } else if (!query.getRequiredTags().isEmpty() || !query.getExcludedTags().isEmpty()) {
+            result.or(occupiedOrdinals);
+        }
+
+        for (Tag tag : query.getRequiredTags()) {
+            BitSet bitmap = tagBitmaps.get(tag);
+            if (bitmap == null) {
+                return new BitSet();
+            }
+            result.and(bitmap);
+        }
+
+        for (Tag tag : query.getExcludedTags()) {
+            BitSet bitmap = tagBitmaps.get(tag);
+            if (bitmap != null) {
+                result.andNot(bitmap);
+            }
+        }
+        return result;
+    }
+}
@@ -1,24 +1,63 @@
 package seedu.address.model.tag;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 
 /**
- * Tests that a {@code Person}'s {@code Tags} matches any of the tags given.
+ * Tests that a {@code Person}'s {@code Tags} matches any of the tags given,
+ * contains all of the required tags, and contains none of the excluded tags.
+ * If no tags are given, only the required and excluded tags are considered.
+ * A predicate with no tags at all matches nobody.
  */
 public class TagsContainTagPredicate implements Predicate<Person> {
     private final List<Tag> tags;
+    private final List<Tag> requiredTags;
+    private final List<Tag> excludedTags;
 
     public TagsContainTagPredicate(List<Tag> tags) {
+        this(tags, Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Creates a predicate that matches persons with any of {@code tags}, all of {@code requiredTags}
+     * and none of {@code excludedTags}.
+     */
+    public TagsContainTagPredicate(List<Tag> tags, List<Tag> requiredTags, List<Tag> excludedTags) {
+        requireAllNonNull(tags, requiredTags, excludedTags);
         this.tags = tags;
+        this.requiredTags = requiredTags;
+        this.excludedTags = excludedTags;
+    }
+
+    List<Tag> getTags() {
+        return tags;
+    }
+
+    List<Tag> getRequiredTags() {
+        return requiredTags;
+    }
+
+    List<Tag> getExcludedTags() {
+        return excludedTags;
     }
 
     @Override
     public boolean test(Person person) {
-        return tags.stream()
-                .anyMatch(tag -> person.getTags().contains(tag));
+        if (tags.isEmpty() && requiredTags.isEmpty() && excludedTags.isEmpty()) {
+            return false;
+        }
+
+        Set<Tag> personTags = person.getTags();
+        return (tags.isEmpty() || tags.stream().anyMatch(personTags::contains))
+                && personTags.containsAll(requiredTags)
+                && excludedTags.stream().noneMatch(personTags::contains);
     }
 
     @Override
@@ -32,6 +71,17 @@ public class TagsContainTagPredicate implements Predicate<Person> {
         }
 
         TagsContainTagPredicate otherTagsContainTagPredicate = (TagsContainTagPredicate) other;
-        return tags.equals(otherTagsContainTagPredicate.tags);
+        return tags.equals(otherTagsContainTagPredicate.tags)
+                && requiredTags.equals(otherTagsContainTagPredicate.requiredTags)
+                && excludedTags.equals(otherTagsContainTagPredicate.excludedTags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("requiredTags", requiredTags)
+                .add("excludedTags", excludedTags)
+                .toString();
     }
 }
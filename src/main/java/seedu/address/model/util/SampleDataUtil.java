@@ -20,21 +20,21 @@ public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
-                new Company("Google"),
+                Company.of("Google"),
                 getTagSet("sales")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new Company("Amazon"),
+                Company.of("Amazon"),
                 getTagSet("colleagues", "friends", "procurement")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("unknown@example.com"),
-                new Company("N/A"), getTagSet()),
+                Company.of("N/A"), getTagSet()),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                new Company("NUS Computing"),
+                Company.of("NUS Computing"),
                 getTagSet("professor")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
-                new Company("AMD"),
+                Company.of("AMD"),
                 getTagSet("classmates", "sales")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new Company("TikTok"),
+                Company.of("TikTok"),
                 getTagSet("procurement"))
         };
     }
@@ -52,7 +52,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
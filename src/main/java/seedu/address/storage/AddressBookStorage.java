@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Records that {@code addressBook} is already in {@link #getAddressBookFilePath()}, such as a copy of the
+     * contact book just read from it, so that later saves of it only need to write what changes afterwards.
+     * Storage that writes the whole contact book on every save has nothing to record, so by default this does
+     * nothing.
+     */
+    default void setSavedAddressBook(ReadOnlyAddressBook addressBook) {}
+
 }
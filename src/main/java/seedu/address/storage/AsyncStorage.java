@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Wraps a {@code Storage} so that the contact book is saved on a background writer thread.
+ *
+ * Saving takes a snapshot of the contact book and returns without waiting for it to be written. If several saves
+ * are requested while one is being written, only the latest snapshot is written after it. Failures are passed to
+ * the handler set with {@link #setSaveFailureHandler(Consumer)}, on the writer thread.
+ * Everything else, including saving to another file, is done by the wrapped storage before returning.
+ */
+public class AsyncStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The latest snapshot waiting to be written, or null if there is none. */
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private volatile OptionalLong requestedEpoch = OptionalLong.empty();
+    private volatile Consumer<IOException> saveFailureHandler = e -> {};
+
+    /**
+     * Creates an {@code AsyncStorage} that writes through {@code storage}.
+     */
+    public AsyncStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Requests that a snapshot of {@code addressBook} be saved, and returns without waiting for it to be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        requestedEpoch = OptionalLong.of(snapshot.getChangeSequence());
+        if (pendingAddressBook.getAndSet(snapshot) == null) {
+            // no write is queued yet, otherwise the queued write picks up this snapshot instead of the older one
+            writer.execute(this::writePendingAddressBook);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Returns the mutation epoch of the latest contact book requested to be saved, which may still be waiting to
+     * be written. After a save fails, nothing counts as saved until the next save is requested.
+     */
+    @Override
+    public OptionalLong getSavedAddressBookEpoch() {
+        return requestedEpoch;
+    }
+
+    @Override
+    public void setSavedAddressBook(ReadOnlyAddressBook addressBook) {
+        storage.setSavedAddressBook(addressBook);
+        requestedEpoch = OptionalLong.of(addressBook.getChangeSequence());
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for data to be saved");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // the task does nothing, so it cannot fail
+            throw new AssertionError(e);
+        }
+    }
+
+    private void writePendingAddressBook() {
+        ReadOnlyAddressBook snapshot = pendingAddressBook.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save data in the background: " + StringUtil.getDetails(e));
+            requestedEpoch = OptionalLong.empty();
+            saveFailureHandler.accept(e instanceof IOException ? (IOException) e : new IOException(e));
+        }
+    }
+
+}
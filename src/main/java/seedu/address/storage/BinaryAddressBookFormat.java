@@ -0,0 +1,460 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Detail;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Reads and writes the binary contact book format.
+ *
+ * A file starts with a header of the {@link #MAGIC} bytes, a two-byte format version and a flags byte. The rest of
+ * the file, which is Deflate-compressed if {@link #FLAG_DEFLATED} is set, holds:
+ * <ul>
+ *     <li>a string table: its size, then each string, which companies and tags refer to by position;</li>
+ *     <li>the number of persons, then each person as a record prefixed by its length in bytes.</li>
+ * </ul>
+ * A record holds the id, name, phone and email, the position of the company, the detail, and the number of tags
+ * followed by their positions. Strings are their length in bytes followed by their UTF-8 encoding, and all numbers
+ * are big-endian.
+ *
+ * Persons can be read as trusted, when the file is known to be unchanged since the application wrote it, in which
+ * case their fields are not checked against their constraints again.
+ */
+class BinaryAddressBookFormat {
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary contact book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary contact book version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary contact book is corrupted.";
+    public static final String MESSAGE_TOO_LARGE = "Binary contact book is too large to be mapped into memory.";
+
+    static final byte[] MAGIC = {'F', 'C', 'A', 'B'};
+    static final short VERSION = 1;
+    static final byte FLAG_DEFLATED = 1;
+    static final int HEADER_LENGTH = MAGIC.length + Short.BYTES + Byte.BYTES;
+
+    /** Lists read from a file grow from at most this size, so that a corrupted count cannot exhaust memory. */
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts like a binary contact book.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        try (InputStream in = FileUtil.openForReading(filePath)) {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format, compressed if {@code isDeflated} is true.
+     * The stream is left open.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isDeflated)
+            throws IOException {
+        DataOutputStream header = new DataOutputStream(out);
+        header.write(MAGIC);
+        header.writeShort(VERSION);
+        header.writeByte(isDeflated ? FLAG_DEFLATED : 0);
+        header.flush();
+
+        DeflaterOutputStream deflater = null;
+        if (isDeflated) {
+            deflater = new DeflaterOutputStream(out, new Deflater(Deflater.BEST_SPEED), FileUtil.BUFFER_SIZE);
+        }
+        DataOutputStream body = new DataOutputStream(isDeflated ? deflater : out);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringPositions = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Person person : persons) {
+            stringPositions.computeIfAbsent(person.getCompany().value, string -> addString(strings, string));
+            for (Tag tag : person.getTags()) {
+                stringPositions.computeIfAbsent(tag.tagName, string -> addString(strings, string));
+            }
+        }
+        body.writeInt(strings.size());
+        for (String string : strings) {
+            writeString(body, string);
+        }
+
+        body.writeInt(persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            record.writeLong(person.getId());
+            writeString(record, person.getName().fullName);
+            writeString(record, person.getPhone().value);
+            writeString(record, person.getEmail().value);
+            record.writeInt(stringPositions.get(person.getCompany().value));
+            writeString(record, person.getDetail().value);
+            record.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                record.writeInt(stringPositions.get(tag.tagName));
+            }
+
+            body.writeInt(recordBytes.size());
+            recordBytes.writeTo(body);
+        }
+
+        body.flush();
+        if (deflater != null) {
+            deflater.finish();
+        }
+    }
+
+    private static int addString(List<String> strings, String string) {
+        strings.add(string);
+        return strings.size() - 1;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a contact book in the binary format from {@code in}.
+     * The fields of the persons are only checked against their constraints if {@code isTrusted} is false.
+     *
+     * @throws IOException if the data cannot be read or is not in the binary format.
+     * @throws IllegalValueException if the data read violates any data constraints.
+     */
+    public static AddressBook read(InputStream in, boolean isTrusted) throws IOException, IllegalValueException {
+        DataInputStream header = new DataInputStream(in);
+        boolean isDeflated = readHeader(header);
+        DataInputStream body = isDeflated
+                ? new DataInputStream(new InflaterInputStream(in, new Inflater(), FileUtil.BUFFER_SIZE))
+                : header;
+
+        try {
+            StringTable strings = readStringTable(body, isTrusted);
+            int personCount = body.readInt();
+            checkCount(personCount);
+
+            List<Person> persons = new ArrayList<>(Math.min(personCount, MAX_INITIAL_CAPACITY));
+            byte[] record = new byte[0];
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = body.readInt();
+                checkCount(recordLength);
+                if (record.length < recordLength) {
+                    record = readBytes(body, recordLength);
+                } else {
+                    body.readFully(record, 0, recordLength);
+                }
+                persons.add(decodePerson(ByteBuffer.wrap(record, 0, recordLength), strings, isTrusted));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        } catch (EOFException eofe) {
+            throw new IOException(MESSAGE_CORRUPTED, eofe);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    /**
+     * Maps the binary contact book at {@code filePath} into memory and returns its persons, which are decoded as
+     * they are read. Only the position of each record is kept now, and at most {@code cacheSize} decoded persons
+     * are kept. Every record is checked to hold the fields of a person and to refer only to strings that exist,
+     * so that a corrupted file is reported here rather than when one of its persons is read.
+     * The fields of the persons are only checked against their constraints, as they are read, if {@code isTrusted}
+     * is false. Returns {@code Optional.empty()} if the file is deflated, since compressed records cannot be located.
+     *
+     * @throws IOException if the file cannot be read, is not in the binary format, is corrupted or is too large
+     *                     to be mapped.
+     */
+    public static Optional<MappedPersonList> map(Path filePath, int cacheSize, boolean isTrusted)
+            throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_TOO_LARGE);
+            }
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (readHeader(buffer)) {
+                return Optional.empty();
+            }
+            StringTable strings = readStringTable(buffer, isTrusted);
+            int personCount = buffer.getInt();
+            // every record takes at least the bytes of its length
+            if (personCount < 0 || personCount > buffer.remaining() / Integer.BYTES) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+
+            int[] offsets = new int[personCount];
+            for (int i = 0; i < personCount; i++) {
+                offsets[i] = buffer.position();
+                int recordLength = buffer.getInt();
+                if (recordLength < 0 || recordLength > buffer.remaining()) {
+                    throw new IOException(MESSAGE_CORRUPTED);
+                }
+                checkRecord(buffer.slice(buffer.position(), recordLength), strings.size());
+                buffer.position(buffer.position() + recordLength);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            return Optional.of(new MappedPersonList(buffer, offsets, strings, cacheSize, isTrusted));
+        } catch (BufferUnderflowException bue) {
+            throw new IOException(MESSAGE_CORRUPTED, bue);
+        }
+    }
+
+    /**
+     * Checks that {@code record} holds exactly the fields of a person with a valid id, and that its company and
+     * tags refer to positions within a string table of {@code stringCount} strings.
+     * The fields are skipped rather than decoded, so no strings are built.
+     *
+     * @throws IOException if the record is not a valid person record.
+     */
+    private static void checkRecord(ByteBuffer record, int stringCount) throws IOException {
+        if (!Person.isValidId(record.getLong())) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        skipString(record); // name
+        skipString(record); // phone
+        skipString(record); // email
+        checkPosition(record.getInt(), stringCount);
+        skipString(record); // detail
+        int tagCount = record.getInt();
+        if (tagCount < 0 || tagCount > record.remaining() / Integer.BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        for (int i = 0; i < tagCount; i++) {
+            checkPosition(record.getInt(), stringCount);
+        }
+        if (record.hasRemaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static void skipString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    private static void checkPosition(int position, int stringCount) throws IOException {
+        if (position < 0 || position >= stringCount) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Reads the header from {@code buffer} and returns true if the rest of the data is deflated.
+     */
+    private static boolean readHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_LENGTH) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return (buffer.get() & FLAG_DEFLATED) != 0;
+    }
+
+    /**
+     * Reads the header from {@code in} and returns true if the rest of the data is deflated.
+     */
+    static boolean readHeader(DataInputStream in) throws IOException {
+        return readHeader(ByteBuffer.wrap(in.readNBytes(HEADER_LENGTH)));
+    }
+
+    /**
+     * Reads the string table from {@code in}, whose strings are only validated if {@code isTrusted} is false.
+     */
+    static StringTable readStringTable(DataInputStream in, boolean isTrusted) throws IOException {
+        int stringCount = in.readInt();
+        checkCount(stringCount);
+        List<String> strings = new ArrayList<>(Math.min(stringCount, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < stringCount; i++) {
+            int length = in.readInt();
+            checkCount(length);
+            strings.add(new String(readBytes(in, length), StandardCharsets.UTF_8));
+        }
+        return new StringTable(strings.toArray(new String[0]), isTrusted);
+    }
+
+    /**
+     * Reads the string table from {@code buffer}, whose strings are only validated if {@code isTrusted} is false.
+     */
+    private static StringTable readStringTable(ByteBuffer buffer, boolean isTrusted) throws IOException {
+        int stringCount = buffer.getInt();
+        // every string takes at least the bytes of its length
+        if (stringCount < 0 || stringCount > buffer.remaining() / Integer.BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            strings[i] = getString(buffer);
+        }
+        return new StringTable(strings, isTrusted);
+    }
+
+    /**
+     * Reads the next {@code length} bytes from {@code in}. Memory is only allocated as the bytes are read,
+     * so a corrupted length cannot exhaust it.
+     */
+    private static byte[] readBytes(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return bytes;
+    }
+
+    /**
+     * Decodes the person record in {@code record}, whose companies and tags refer to {@code strings}.
+     * The fields are only checked against their constraints if {@code isTrusted} is false.
+     *
+     * @throws IOException if the record is cut short or refers to strings that do not exist.
+     * @throws IllegalValueException if the record violates any data constraints.
+     */
+    static Person decodePerson(ByteBuffer record, StringTable strings, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        try {
+            long id = record.getLong();
+            String name = getString(record);
+            String phone = getString(record);
+            String email = getString(record);
+            Company company = strings.getCompany(record.getInt());
+            String detail = getString(record);
+            int tagCount = record.getInt();
+            checkCount(tagCount);
+            Tag[] tags = new Tag[tagCount];
+            for (int i = 0; i < tagCount; i++) {
+                tags[i] = strings.getTag(record.getInt());
+            }
+
+            if (!Person.isValidId(id)) {
+                throw new IllegalValueException(Person.MESSAGE_ID_CONSTRAINTS);
+            }
+            TagSet tagSet = TagSet.of(Arrays.asList(tags));
+            if (isTrusted) {
+                return new Person(id, Name.fromTrusted(name), Phone.fromTrusted(phone), Email.fromTrusted(email),
+                        company, Detail.fromTrusted(detail), tagSet);
+            }
+            return new Person(id, new Name(name), new Phone(phone), new Email(email), company, new Detail(detail),
+                    tagSet);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        if (buffer.hasArray()) {
+            String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return string;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void checkCount(int count) throws IOException {
+        if (count < 0) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * The string table of a binary contact book, which converts each string into a company or tag once.
+     * The strings are validated as they are converted unless the table is trusted.
+     */
+    static class StringTable {
+        private final String[] strings;
+        private final Company[] companies;
+        private final Tag[] tags;
+        private final boolean isTrusted;
+
+        StringTable(String[] strings, boolean isTrusted) {
+            this.strings = strings;
+            this.isTrusted = isTrusted;
+            this.companies = new Company[strings.length];
+            this.tags = new Tag[strings.length];
+        }
+
+        int size() {
+            return strings.length;
+        }
+
+        Company getCompany(int position) {
+            if (companies[position] == null) {
+                String company = strings[position];
+                companies[position] = isTrusted ? Company.fromTrusted(company) : Company.of(company);
+            }
+            return companies[position];
+        }
+
+        Tag getTag(int position) {
+            if (tags[position] == null) {
+                String tagName = strings[position];
+                tags[position] = isTrusted ? Tag.fromTrusted(tagName) : Tag.of(tagName);
+            }
+            return tags[position];
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the binary format of {@link BinaryAddressBookFormat} on the hard disk.
+ *
+ * A json data file, with its journal if it has one, is read as well, so that switching to this storage converts
+ * the data on the next save.
+ * The binary format holds everything the json format does, so nothing is lost in either direction.
+ *
+ * Like {@link JsonAddressBookStorage}, each save writes a validation marker beside the file, and a file that still
+ * matches its marker is loaded without checking every field against its constraints.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isDeflated;
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is compressed with Deflate if {@code isDeflated}.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isDeflated) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isDeflated = isDeflated;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and is in the binary format.
+     *
+     * @throws DataLoadingException if the file could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws DataLoadingException {
+        try {
+            return BinaryAddressBookFormat.isBinaryFile(filePath);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            logger.info("Data file " + filePath + " is not binary, reading it as json.");
+            // a json file may have a journal, which has to be replayed for nothing to be lost
+            return new JournaledAddressBookStorage(filePath, new JournalSettings()).readAddressBook(filePath);
+        }
+
+        boolean isTrusted = isUnchangedSinceSaved(filePath);
+        try (InputStream in = FileUtil.openForReading(filePath)) {
+            return Optional.of(BinaryAddressBookFormat.read(in, isTrusted));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is only replaced once the whole contact book has been written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // the file no longer matches its marker once it starts to change
+        Files.deleteIfExists(JsonAddressBookStorage.getValidationMarkerFilePath(filePath));
+        CRC32C checksum = new CRC32C();
+        FileUtil.writeToFileAtomically(filePath, out ->
+                BinaryAddressBookFormat.write(addressBook, new CheckedOutputStream(out, checksum), isDeflated));
+        JsonAddressBookStorage.writeValidationMarker(filePath, checksum.getValue());
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} still matches its validation marker, so that its persons
+     * are known to be valid. The file is only read if it has a marker.
+     *
+     * @throws DataLoadingException if the file could not be read.
+     */
+    static boolean isUnchangedSinceSaved(Path filePath) throws DataLoadingException {
+        OptionalLong savedChecksum = JsonAddressBookStorage.readValidationMarker(filePath);
+        if (savedChecksum.isEmpty()) {
+            logger.info("Data file " + filePath + " is not known to be valid, validating every person.");
+            return false;
+        }
+
+        CRC32C checksum = new CRC32C();
+        try (InputStream in = new CheckedInputStream(FileUtil.openForReading(filePath), checksum)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        if (savedChecksum.getAsLong() != checksum.getValue()) {
+            logger.info("Data file " + filePath + " changed since it was saved, validating every person.");
+            return false;
+        }
+        return true;
+    }
+
+}
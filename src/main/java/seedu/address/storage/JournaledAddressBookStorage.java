@@ -0,0 +1,297 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot together with a journal of the changes made since
+ * the snapshot was written.
+ *
+ * Each save appends one compact json line per change to the journal, so its cost depends on what changed rather
+ * than on the size of the contact book. The journal is compacted into a new snapshot when it outgrows the limits in
+ * {@link JournalSettings}, or when the changes since the last save are not known. The snapshot is in the same format
+ * as {@link JsonAddressBookStorage} uses, with the number of the last journal record it includes.
+ * A contact book recorded with {@link #setSavedAddressBook(ReadOnlyAddressBook)} after it was read from the files
+ * has its changes appended too, so the first save after a launch does not compact.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String MESSAGE_MISSING_RECORDS = "Journal is missing records after record %d.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JournalSettings journalSettings;
+
+    /** The contact book whose state the files hold, and the number of its latest change they include. */
+    private ReadOnlyAddressBook savedOrigin;
+    private long savedChangeSequence;
+    /** Whether the files were last read as a snapshot and journal, which changes can be appended to. */
+    private boolean isJournalRead;
+
+    private long journalSequence;
+    private int journalRecords;
+    private long journalBytes;
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath}, which is compacted according to {@code journalSettings}.
+     */
+    public JournaledAddressBookStorage(Path filePath, JournalSettings journalSettings) {
+        requireNonNull(filePath);
+        requireNonNull(journalSettings);
+        this.filePath = filePath;
+        this.journalSettings = journalSettings;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal records after the snapshot are replayed onto it. A last record that is cut short, as when the
+     * application stopped while appending it, is ignored.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            // binary files have no journal, the next save replaces it with a json snapshot
+            if (filePath.equals(this.filePath)) {
+                isJournalRead = false;
+            }
+            logger.info("Data file " + filePath + " is binary, converting it to json.");
+            return new BinaryAddressBookStorage(filePath, false).readAddressBook(filePath);
+        }
+
+        Optional<JsonSerializableAddressBook> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook;
+        Path journalFile = getJournalFilePath(filePath);
+        long snapshotSequence = snapshot.get().getJournalSequence();
+        long sequence;
+        long journalFileBytes;
+        boolean isJournalComplete;
+        try {
+            addressBook = snapshot.get().toModelType();
+            sequence = replayJournal(journalFile, addressBook, snapshotSequence);
+            journalFileBytes = FileUtil.isFileExists(journalFile) ? Files.size(journalFile) : 0;
+            isJournalComplete = isJournalComplete(journalFile);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading journal of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // later records must be numbered after every record already in the journal
+            journalSequence = Math.max(journalSequence, sequence);
+            // records cannot be appended after one that was cut short, so the next save compacts
+            isJournalRead = isJournalComplete;
+            journalRecords = (int) Math.max(0, sequence - snapshotSequence);
+            journalBytes = journalFileBytes;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns true if the journal at {@code journalFile} is missing or ends with a complete record.
+     */
+    private static boolean isJournalComplete(Path journalFile) throws IOException {
+        if (!FileUtil.isFileExists(journalFile)) {
+            return true;
+        }
+        try (SeekableByteChannel channel = Files.newByteChannel(journalFile)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(lastByte);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalFile} that come after record {@code sequence}
+     * to {@code addressBook}, and returns the number of the last record in the journal.
+     */
+    private static long replayJournal(Path journalFile, AddressBook addressBook, long sequence)
+            throws IOException, IllegalValueException {
+        if (!FileUtil.isFileExists(journalFile)) {
+            return sequence;
+        }
+
+        String[] lines = FileUtil.readFromFile(journalFile).split("\n");
+        long lastSequence = sequence;
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedChange record;
+            try {
+                record = JsonUtil.fromJsonString(lines[i], JsonAdaptedChange.class);
+            } catch (IOException ioe) {
+                if (i < lines.length - 1) {
+                    throw ioe;
+                }
+                logger.warning("Ignoring incomplete last record of journal " + journalFile);
+                break;
+            }
+
+            lastSequence = Math.max(lastSequence, record.getSequence());
+            if (record.getSequence() <= sequence) {
+                // already included in the snapshot
+                continue;
+            }
+            if (record.getSequence() != sequence + 1) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORDS, sequence));
+            }
+            record.applyTo(addressBook);
+            sequence = record.getSequence();
+        }
+        return lastSequence;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        // snapshots of the same contact book share its changes
+        Optional<List<AddressBookChange>> changes = addressBook.getOrigin() == savedOrigin
+                ? addressBook.getChangesSince(savedChangeSequence)
+                : Optional.empty();
+        long changeSequence = addressBook.getChangeSequence();
+        // if writing fails, the files may not match either state, so the next save has to compact
+        savedOrigin = null;
+        isJournalRead = false;
+        if (!changes.isPresent() || !appendToJournal(changes.get())) {
+            compact(addressBook);
+        }
+
+        savedOrigin = addressBook.getOrigin();
+        savedChangeSequence = changeSequence;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Its changes are appended to the journal only if the files were last read by this storage as a snapshot and
+     * journal, and have not been written since.
+     */
+    @Override
+    public void setSavedAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (isJournalRead) {
+            savedOrigin = addressBook.getOrigin();
+            savedChangeSequence = addressBook.getChangeSequence();
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's writes a plain snapshot without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    }
+
+    /**
+     * Appends {@code changes} to the journal and returns true, or returns false without writing anything if the
+     * changes cannot be journaled or the journal would outgrow its limits.
+     */
+    private boolean appendToJournal(List<AddressBookChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return true;
+        }
+        if (journalRecords + changes.size() > journalSettings.getMaxRecords()) {
+            return false;
+        }
+
+        StringBuilder records = new StringBuilder();
+        long sequence = journalSequence;
+        for (AddressBookChange change : changes) {
+            if (change.getType() == AddressBookChange.Type.RESET) {
+                return false;
+            }
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedChange(++sequence, change))).append('\n');
+        }
+
+        byte[] bytes = records.toString().getBytes(StandardCharsets.UTF_8);
+        if (journalBytes + bytes.length > journalSettings.getMaxBytes()) {
+            return false;
+        }
+
+        Files.write(getJournalFilePath(filePath), bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalSequence = sequence;
+        journalRecords += changes.size();
+        journalBytes += bytes.length;
+        return true;
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and empties the journal.
+     * The snapshot records the number of the last journal record, so that records left behind if the journal
+     * cannot be emptied are not replayed onto it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal of " + filePath);
+        JsonUtil.saveJsonFileAtomically(new JsonSerializableAddressBook(addressBook, journalSequence), filePath, true);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        journalRecords = 0;
+        journalBytes = 0;
+    }
+
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortOrder;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}, written as one record of a journal.
+ * Records are numbered by the journal, independently of the sequence numbers of the changes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Journal record refers to a person that does not exist.";
+    public static final String MESSAGE_UNSUPPORTED_TYPE = "Journal records cannot be of type %s.";
+
+    private final long sequence;
+    private final AddressBookChange.Type type;
+    private final Long id;
+    private final JsonAdaptedPerson person;
+    private final List<Long> order;
+    private final SortOrder.Field sortField;
+    private final Boolean isDescending;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("sequence") long sequence,
+            @JsonProperty("type") AddressBookChange.Type type, @JsonProperty("id") Long id,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("order") List<Long> order,
+            @JsonProperty("sortField") SortOrder.Field sortField, @JsonProperty("isDescending") Boolean isDescending) {
+        this.sequence = sequence;
+        this.type = type;
+        this.id = id;
+        this.person = person;
+        this.order = order;
+        this.sortField = sortField;
+        this.isDescending = isDescending;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into the journal record numbered {@code sequence}.
+     * {@code RESET} changes cannot be journaled, since only the whole contact book describes them.
+     */
+    public JsonAdaptedChange(long sequence, AddressBookChange source) {
+        assert source.getType() != AddressBookChange.Type.RESET;
+        this.sequence = sequence;
+        type = source.getType();
+        id = type == AddressBookChange.Type.SET || type == AddressBookChange.Type.REMOVE
+                ? source.getTargetId()
+                : null;
+        person = type == AddressBookChange.Type.ADD || type == AddressBookChange.Type.SET
+                ? new JsonAdaptedPerson(source.getPerson())
+                : null;
+        if (type == AddressBookChange.Type.REORDER) {
+            long[] ids = source.getOrder();
+            order = new ArrayList<>(ids.length);
+            for (long orderedId : ids) {
+                order.add(orderedId);
+            }
+        } else {
+            order = null;
+        }
+        if (type == AddressBookChange.Type.SORT) {
+            sortField = source.getSortOrder().getField();
+            isDescending = source.getSortOrder().isDescending();
+        } else {
+            sortField = null;
+            isDescending = null;
+        }
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Makes the change this record describes to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the record is incomplete or invalid, or cannot be made to the contact book.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        try {
+            switch (type) {
+            case ADD:
+                addressBook.addPerson(getPerson().toModelType());
+                break;
+            case SET:
+                addressBook.setPerson(getTarget(addressBook), getPerson().toModelType());
+                break;
+            case REMOVE:
+                addressBook.removePerson(getTarget(addressBook));
+                break;
+            case REORDER:
+                addressBook.sort(getOrderComparator());
+                break;
+            case SORT:
+                addressBook.sort(getSortOrder());
+                break;
+            case CLEAR:
+                addressBook.setPersons(new ArrayList<>());
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_TYPE, type));
+            }
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    private JsonAdaptedPerson getPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person;
+    }
+
+    private Person getTarget(AddressBook addressBook) throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
+        }
+        return addressBook.findPersonById(id)
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_UNKNOWN_PERSON));
+    }
+
+    private SortOrder getSortOrder() throws IllegalValueException {
+        if (sortField == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "sortField"));
+        }
+        if (isDescending == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "isDescending"));
+        }
+        return new SortOrder(sortField, isDescending);
+    }
+
+    /**
+     * Returns a comparator that orders persons as listed in {@code order}. Persons not listed go last.
+     */
+    private Comparator<Person> getOrderComparator() throws IllegalValueException {
+        if (order == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "order"));
+        }
+
+        Map<Long, Integer> ranks = new HashMap<>(order.size() * 2);
+        for (int rank = 0; rank < order.size(); rank++) {
+            ranks.putIfAbsent(order.get(rank), rank);
+        }
+        return (first, second) -> Integer.compare(ranks.getOrDefault(first.getId(), Integer.MAX_VALUE),
+                ranks.getOrDefault(second.getId(), Integer.MAX_VALUE));
+    }
+
+}
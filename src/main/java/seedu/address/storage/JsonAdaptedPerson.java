@@ -1,9 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -17,6 +15,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -25,6 +24,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -36,10 +36,11 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("company") String company,
-            @JsonProperty("detail") String detail,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("company") String company, @JsonProperty("detail") String detail,
             @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -54,6 +55,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -75,6 +77,11 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
+        // Id is optional, files saved before ids existed get new ones
+        if (id != null && !Person.isValidId(id)) {
+            throw new IllegalValueException(Person.MESSAGE_ID_CONSTRAINTS);
+        }
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -105,7 +112,7 @@ class JsonAdaptedPerson {
         if (!Company.isValidCompany(company)) {
             throw new IllegalValueException(Company.MESSAGE_CONSTRAINTS);
         }
-        final Company modelCompany = new Company(company);
+        final Company modelCompany = Company.of(company);
 
         // Detail is optional, default to empty string if not present (for backward compatibility)
         final String detailValue = (detail == null) ? "" : detail;
@@ -114,8 +121,38 @@ class JsonAdaptedPerson {
         }
         final Detail modelDetail = new Detail(detailValue);
 
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelCompany, modelDetail, modelTags);
+        final TagSet modelTags = TagSet.of(personTags);
+        if (id == null) {
+            return new Person(modelName, modelPhone, modelEmail, modelCompany, modelDetail, modelTags);
+        }
+        return new Person(id, modelName, modelPhone, modelEmail, modelCompany, modelDetail, modelTags);
+    }
+
+    /**
+     * Converts this person into the model's {@code Person} object like {@link #toModelType()}, but without checking
+     * the fields against their constraints. Only for persons read from a file known to hold valid persons.
+     *
+     * @throws IllegalValueException if a required field is missing.
+     */
+    public Person toTrustedModelType() throws IllegalValueException {
+        if (name == null || phone == null || email == null || company == null
+                || (id != null && !Person.isValidId(id))) {
+            // reports the problem in the same way
+            return toModelType();
+        }
+
+        final List<Tag> personTags = new ArrayList<>(tags.size());
+        for (JsonAdaptedTag tag : tags) {
+            personTags.add(Tag.fromTrusted(tag.getTagName()));
+        }
+        final Detail modelDetail = Detail.fromTrusted(detail == null ? "" : detail);
+        final TagSet modelTags = TagSet.of(personTags);
+        if (id == null) {
+            return new Person(Name.fromTrusted(name), Phone.fromTrusted(phone), Email.fromTrusted(email),
+                    Company.fromTrusted(company), modelDetail, modelTags);
+        }
+        return new Person(id, Name.fromTrusted(name), Phone.fromTrusted(phone), Email.fromTrusted(email),
+                Company.fromTrusted(company), modelDetail, modelTags);
     }
 
 }
@@ -3,9 +3,16 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -16,21 +23,51 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is streamed to and from disk rather than held in memory as a whole.
+ *
+ * Each save also writes a validation marker beside the file, holding a checksum of what was saved. A file whose
+ * checksum still matches is unchanged since the application wrote it, so its persons are known to be valid and are
+ * loaded without checking every field against its constraints.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String VALIDATION_MARKER_FILE_SUFFIX = ".validated";
+
+    /**
+     * Version of the field constraints that the validation markers vouch for. Must be increased whenever a
+     * constraint becomes stricter, so that files saved under the old constraints are checked again.
+     */
+    static final int CONSTRAINTS_VERSION = 1;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is written indented for readability
+     * if {@code isPrettyPrinted} is true and on a single line otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the validation marker that belongs to the data file at {@code filePath}.
+     */
+    public static Path getValidationMarkerFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + VALIDATION_MARKER_FILE_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,14 +82,34 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            logger.info("Data file " + filePath + " is binary, converting it to json.");
+            return new BinaryAddressBookStorage(filePath, false).readAddressBook(filePath);
+        }
+
+        if (!FileUtil.isFileExists(filePath)) {
             return Optional.empty();
         }
 
+        JsonSerializableAddressBook jsonAddressBook;
+        CRC32C checksum = new CRC32C();
+        try (InputStream in = new CheckedInputStream(FileUtil.openForReading(filePath), checksum)) {
+            jsonAddressBook = JsonUtil.fromJsonStream(in, JsonSerializableAddressBook.class);
+            // the checksum covers the whole file
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        OptionalLong savedChecksum = readValidationMarker(filePath);
+        boolean isTrusted = savedChecksum.isPresent() && savedChecksum.getAsLong() == checksum.getValue();
+        if (!isTrusted) {
+            logger.info("Data file " + filePath + " is not known to be valid, validating every person.");
+        }
+
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(jsonAddressBook.toModelType(isTrusted));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +131,46 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        // the file no longer matches its marker once it starts to change
+        Path markerFilePath = getValidationMarkerFilePath(filePath);
+        Files.deleteIfExists(markerFilePath);
+
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(addressBook);
+        CRC32C checksum = new CRC32C();
+        FileUtil.writeToFile(filePath, out ->
+                JsonUtil.toJsonStream(jsonAddressBook, new CheckedOutputStream(out, checksum), isPrettyPrinted));
+        writeValidationMarker(filePath, checksum.getValue());
+    }
+
+    /**
+     * Writes the validation marker of the data file at {@code filePath}, which vouches that a file with the CRC32C
+     * {@code checksum} holds persons that meet the current constraints.
+     */
+    static void writeValidationMarker(Path filePath, long checksum) throws IOException {
+        FileUtil.writeToFile(getValidationMarkerFilePath(filePath),
+                CONSTRAINTS_VERSION + " " + Long.toHexString(checksum));
+    }
+
+    /**
+     * Returns the checksum in the validation marker of the data file at {@code filePath}, or an empty
+     * {@code OptionalLong} if there is no marker that vouches for the current constraints.
+     */
+    static OptionalLong readValidationMarker(Path filePath) {
+        Path markerFilePath = getValidationMarkerFilePath(filePath);
+        if (!FileUtil.isFileExists(markerFilePath)) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            String[] parts = FileUtil.readFromFile(markerFilePath).trim().split(" ");
+            if (parts.length != 2 || Integer.parseInt(parts[0]) != CONSTRAINTS_VERSION) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(Long.parseLong(parts[1], 16));
+        } catch (IOException | NumberFormatException e) {
+            logger.warning("Ignoring unreadable validation marker " + markerFilePath + ": " + e);
+            return OptionalLong.empty();
+        }
     }
 
 }
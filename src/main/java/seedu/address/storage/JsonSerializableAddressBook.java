@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -12,6 +15,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,14 +25,23 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Number of persons converted together. Chunks are converted in parallel. */
+    static final int CONVERSION_CHUNK_SIZE = 1024;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
+    /** The number of the last journal record included in this snapshot, if it was written by a journal. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalSequence;
+
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and journal sequence number.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("journalSequence") Long journalSequence) {
         this.persons.addAll(persons);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -38,23 +51,78 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        journalSequence = null;
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into a snapshot that includes the journal records
+     * up to {@code journalSequence}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, long journalSequence) {
+        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Returns the number of the last journal record included in this snapshot, or 0 if there is none.
+     */
+    public long getJournalSequence() {
+        return journalSequence == null ? 0 : journalSequence;
     }
 
     /**
      * Converts this contact book into the model's {@code AddressBook} object.
+     * Persons are converted in chunks on the common fork-join pool, keeping their order, and then checked for
+     * duplicates in a single pass. Persons without an id get new ones in no particular order.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated. The violation reported is that of
+     *     the first invalid person, as if the persons had been converted one after another.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}. If {@code isTrusted}, the persons are known to be valid and their fields
+     * are not checked against their constraints, though duplicates and missing fields are still reported.
+     */
+    public AddressBook toModelType(boolean isTrusted) throws IllegalValueException {
+        Person[] modelPersons = new Person[persons.size()];
+        int chunkCount = (persons.size() + CONVERSION_CHUNK_SIZE - 1) / CONVERSION_CHUNK_SIZE;
+        IllegalValueException[] chunkErrors = new IllegalValueException[chunkCount];
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            chunkErrors[chunk] = convertChunk(chunk * CONVERSION_CHUNK_SIZE, modelPersons, isTrusted);
+        });
+        for (IllegalValueException chunkError : chunkErrors) {
+            if (chunkError != null) {
+                throw chunkError;
             }
-            addressBook.addPerson(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(Arrays.asList(modelPersons));
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
 
+    /**
+     * Converts the chunk of persons starting at {@code from} into {@code modelPersons}, stopping at the first
+     * invalid person, and returns its violation or null if the whole chunk is valid.
+     */
+    private IllegalValueException convertChunk(int from, Person[] modelPersons, boolean isTrusted) {
+        int to = Math.min(from + CONVERSION_CHUNK_SIZE, modelPersons.length);
+        try {
+            for (int i = from; i < to; i++) {
+                JsonAdaptedPerson person = persons.get(i);
+                modelPersons[i] = isTrusted ? person.toTrustedModelType() : person.toModelType();
+            }
+        } catch (IllegalValueException ive) {
+            return ive;
+        }
+        return null;
+    }
+
 }
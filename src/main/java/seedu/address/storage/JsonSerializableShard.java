@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * One shard of a sharded contact book that is serializable to JSON format.
+ * Each person is stored with its rank, which orders the persons of every shard into the contact book's list.
+ */
+class JsonSerializableShard {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Shard entry's %s field is missing!";
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given entries.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("entries") List<Entry> entries) {
+        if (entries != null) {
+            this.entries.addAll(entries);
+        }
+    }
+
+    /**
+     * Converts the given persons, ranked by {@code ranks} in the same order, into this class for Jackson use.
+     */
+    public JsonSerializableShard(List<Person> persons, List<Long> ranks) {
+        assert persons.size() == ranks.size();
+        for (int i = 0; i < persons.size(); i++) {
+            entries.add(new Entry(ranks.get(i), new JsonAdaptedPerson(persons.get(i))));
+        }
+    }
+
+    /**
+     * Converts the persons of this shard into the model's {@code Person} objects and adds them to
+     * {@code persons}, and their ranks to {@code ranks}, in the order they are stored.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void toModelType(List<Person> persons, List<Long> ranks) throws IllegalValueException {
+        for (Entry entry : entries) {
+            if (entry.rank == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "rank"));
+            }
+            if (entry.person == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+            }
+            persons.add(entry.person.toModelType());
+            ranks.add(entry.rank);
+        }
+    }
+
+    /**
+     * A person and its rank.
+     */
+    static class Entry {
+        private final Long rank;
+        private final JsonAdaptedPerson person;
+
+        @JsonCreator
+        Entry(@JsonProperty("rank") Long rank, @JsonProperty("person") JsonAdaptedPerson person) {
+            this.rank = rank;
+            this.person = person;
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of a sharded contact book that is serializable to JSON format, which records how many shards
+ * the persons are split into.
+ */
+class JsonShardManifest {
+
+    private final Integer shardCount;
+
+    /**
+     * Constructs a {@code JsonShardManifest} for {@code shardCount} shards.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("shardCount") Integer shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns the number of shards, or {@code Optional.empty()} if the json data this was read from is not a
+     * manifest, such as an unsharded contact book.
+     */
+    public Optional<Integer> getShardCount() {
+        return Optional.ofNullable(shardCount);
+    }
+
+}
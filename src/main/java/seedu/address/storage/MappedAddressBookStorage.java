@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the binary format, which reads the data file lazily.
+ *
+ * The data file is mapped into memory and only the position of each person's record is read when the contact book
+ * is loaded. Persons are decoded as they are shown or tested, and all of them only once the contact book is first
+ * changed or searched. Files in other formats, including deflated binary files, are read in full.
+ * Saving writes the uncompressed binary format, so that the file can be mapped the next time it is read.
+ * The file is replaced by the save while persons may still be read from its mapping. Most platforms allow this and
+ * the mapping keeps showing the old file, so nothing is copied. On platforms that refuse to replace a file that is
+ * mapped, the persons of the files this storage mapped are copied out of them and the save is retried.
+ * The new file is mapped by the next read.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    /** Number of decoded persons kept in memory while the contact book is read lazily. */
+    public static final int CACHE_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final BinaryAddressBookStorage binaryStorage;
+    /** The persons of the files this storage has mapped since the last save. */
+    private final List<MappedPersonList> mappedPersons = new ArrayList<>();
+
+    /**
+     * Creates a storage for the file at {@code filePath}.
+     */
+    public MappedAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.binaryStorage = new BinaryAddressBookStorage(filePath, false);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return binaryStorage.readAddressBook(filePath);
+        }
+
+        boolean isTrusted = BinaryAddressBookStorage.isUnchangedSinceSaved(filePath);
+        Optional<MappedPersonList> persons;
+        try {
+            persons = BinaryAddressBookFormat.map(filePath, CACHE_SIZE, isTrusted);
+        } catch (IOException ioe) {
+            logger.warning("Error mapping binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        if (!persons.isPresent()) {
+            logger.info("Data file " + filePath + " is deflated, reading it in full.");
+            return binaryStorage.readAddressBook(filePath);
+        }
+
+        synchronized (mappedPersons) {
+            mappedPersons.add(persons.get());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersonsLazily(persons.get());
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try {
+            binaryStorage.saveAddressBook(addressBook, filePath);
+        } catch (FileSystemException fse) {
+            if (!releaseMappedPersons()) {
+                throw fse;
+            }
+            logger.info("Data file " + filePath + " could not be replaced while mapped, saving again after copying "
+                    + "the mapped persons: " + fse);
+            binaryStorage.saveAddressBook(addressBook, filePath);
+        }
+        // the files mapped so far have been replaced, so they no longer need to be released before a save
+        synchronized (mappedPersons) {
+            mappedPersons.clear();
+        }
+    }
+
+    /**
+     * Returns the persons of the files this storage has mapped since the last save.
+     */
+    List<MappedPersonList> getMappedPersons() {
+        synchronized (mappedPersons) {
+            return new ArrayList<>(mappedPersons);
+        }
+    }
+
+    /**
+     * Copies the persons of every file this storage has mapped out of the file, so that no list reads from a file
+     * while it is replaced. Returns false if there was nothing to copy.
+     */
+    private boolean releaseMappedPersons() {
+        synchronized (mappedPersons) {
+            boolean isReleased = false;
+            for (MappedPersonList persons : mappedPersons) {
+                isReleased |= !persons.isReleased();
+                persons.release();
+            }
+            mappedPersons.clear();
+            return isReleased;
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * A read-only list of the persons in a binary contact book that is mapped into memory.
+ * Only the position of each record is held. A person is decoded from its record when it is read, and the most
+ * recently read persons are cached, so memory use depends on how many persons are read rather than on the size of
+ * the file.
+ *
+ * The list can be released from the file with {@link #release()} if the file must be replaced while it is mapped,
+ * after which the records are read from a copy in memory instead.
+ */
+class MappedPersonList extends AbstractList<Person> implements RandomAccess {
+
+    public static final String MESSAGE_INVALID_RECORD = "Person %d of the mapped contact book is invalid: %s";
+
+    /** The records, which are either mapped from the file or, once released, a copy of them. */
+    private ByteBuffer buffer;
+    private final int[] offsets;
+    private final BinaryAddressBookFormat.StringTable strings;
+    private final Map<Integer, Person> cache;
+    private final boolean isTrusted;
+
+    /**
+     * Creates a list of the persons whose records start at {@code offsets} in {@code buffer}, which keeps at most
+     * {@code cacheSize} decoded persons. The persons are only validated as they are decoded if {@code isTrusted}
+     * is false.
+     */
+    MappedPersonList(ByteBuffer buffer, int[] offsets, BinaryAddressBookFormat.StringTable strings, int cacheSize,
+            boolean isTrusted) {
+        this.buffer = buffer;
+        this.offsets = offsets;
+        this.strings = strings;
+        this.isTrusted = isTrusted;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the person at {@code index}, decoding it if it is not cached.
+     *
+     * @throws IllegalStateException if the record of the person is invalid.
+     */
+    @Override
+    public Person get(int index) {
+        Objects.checkIndex(index, offsets.length);
+        // the string table and the cache are shared, and persons may be read on more than one thread
+        synchronized (cache) {
+            Person person = cache.get(index);
+            if (person == null) {
+                person = decode(index);
+                cache.put(index, person);
+            }
+            return person;
+        }
+    }
+
+    /**
+     * Copies the records out of the mapped file, so that the list no longer reads from it and the file can be
+     * replaced. The persons keep being decoded as they are read. Does nothing if the list is already released.
+     */
+    void release() {
+        synchronized (cache) {
+            if (!(buffer instanceof MappedByteBuffer)) {
+                return;
+            }
+            ByteBuffer copy = ByteBuffer.allocate(buffer.capacity());
+            copy.put(0, buffer, 0, buffer.capacity());
+            buffer = copy;
+        }
+    }
+
+    /**
+     * Returns true if the records are read from a copy in memory rather than from the mapped file.
+     */
+    boolean isReleased() {
+        synchronized (cache) {
+            return !(buffer instanceof MappedByteBuffer);
+        }
+    }
+
+    @Override
+    public int size() {
+        return offsets.length;
+    }
+
+    private Person decode(int index) {
+        int recordLength = buffer.getInt(offsets[index]);
+        try {
+            return BinaryAddressBookFormat.decodePerson(
+                    buffer.slice(offsets[index] + Integer.BYTES, recordLength), strings, isTrusted);
+        } catch (IOException | IllegalValueException e) {
+            // the records were checked to be well-formed when the file was mapped, but their values were not
+            throw new IllegalStateException(String.format(MESSAGE_INVALID_RECORD, index, e.getMessage()), e);
+        }
+    }
+
+}
@@ -0,0 +1,383 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data split across several json files.
+ *
+ * Each person is stored in one of a fixed number of shard files, chosen by its id, which stays the same when the
+ * person is edited. The file at the storage's path is a manifest that records the number of shards. A save only
+ * rewrites the shards holding persons that changed since the last save, each one atomically, and shards are read in
+ * parallel.
+ * Persons are stored with a rank that restores their order in the contact book across shards. Sorting the contact
+ * book reranks every person, so the save after it rewrites every shard.
+ * A contact book recorded with {@link #setSavedAddressBook(ReadOnlyAddressBook)} after it was read from the shards
+ * keeps the ranks read with it, so the first save after a launch also only rewrites the shards that changed.
+ *
+ * An unsharded data file at the storage's path is read as well, so that switching to this storage converts it
+ * on the next save.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final int MAX_SHARD_COUNT = 1024;
+    public static final String SHARD_FILE_SUFFIX = ".shard-";
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "Shard count should be between 1 and " + MAX_SHARD_COUNT;
+    public static final String MESSAGE_MISSING_SHARD = "Shard %d of the contact book is missing.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+
+    /** The contact book whose state the shards hold, and the number of its latest change they include. */
+    private ReadOnlyAddressBook savedOrigin;
+    private long savedChangeSequence;
+
+    /** The rank of every saved person, keyed by id, and the rank the next added person gets. */
+    private final Map<Long, Long> ranks = new HashMap<>();
+    private long nextRank;
+    /** Whether {@code ranks} were last read from the shards of this storage, which are split the same way. */
+    private boolean isShardsRead;
+
+    /**
+     * Creates a storage with its manifest at {@code filePath}, which splits the persons across {@code shardCount}
+     * shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        checkArgument(isValidShardCount(shardCount), MESSAGE_INVALID_SHARD_COUNT);
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if a contact book can be split into {@code shardCount} shards.
+     */
+    public static boolean isValidShardCount(int shardCount) {
+        return shardCount > 0 && shardCount <= MAX_SHARD_COUNT;
+    }
+
+    /**
+     * Returns the path of the shard numbered {@code shard} of the contact book with its manifest at {@code filePath}.
+     */
+    public static Path getShardFilePath(Path filePath, int shard) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_FILE_SUFFIX + shard);
+    }
+
+    /**
+     * Returns the shard, out of {@code shardCount}, that holds the person with the given {@code id}.
+     */
+    static int getShard(long id, int shardCount) {
+        return (int) Math.floorMod(id, (long) shardCount);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<Integer> savedShardCount = BinaryAddressBookStorage.isBinaryFile(filePath)
+                ? Optional.empty()
+                : JsonUtil.readJsonFile(filePath, JsonShardManifest.class).flatMap(JsonShardManifest::getShardCount);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (!savedShardCount.isPresent()) {
+            // an unsharded file, or none at all
+            if (isOwnFile) {
+                isShardsRead = false;
+            }
+            return new JournaledAddressBookStorage(filePath, new JournalSettings()).readAddressBook(filePath);
+        }
+        if (!isValidShardCount(savedShardCount.get())) {
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_INVALID_SHARD_COUNT));
+        }
+
+        int count = savedShardCount.get();
+        List<List<Person>> shardPersons = new ArrayList<>(count);
+        List<List<Long>> shardRanks = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            shardPersons.add(new ArrayList<>());
+            shardRanks.add(new ArrayList<>());
+        }
+        DataLoadingException[] shardErrors = new DataLoadingException[count];
+        IntStream.range(0, count).parallel().forEach(shard -> {
+            try {
+                readShard(filePath, shard, shardPersons.get(shard), shardRanks.get(shard));
+            } catch (DataLoadingException dle) {
+                shardErrors[shard] = dle;
+            }
+        });
+        for (DataLoadingException shardError : shardErrors) {
+            if (shardError != null) {
+                throw shardError;
+            }
+        }
+
+        AddressBook addressBook = merge(shardPersons, shardRanks);
+        if (isOwnFile) {
+            // shards split another way are all rewritten by the next save
+            isShardsRead = count == shardCount;
+            if (isShardsRead) {
+                readRanks(shardPersons, shardRanks);
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Replaces the saved ranks with {@code shardRanks}, the ranks of the persons in {@code shardPersons}.
+     */
+    private void readRanks(List<List<Person>> shardPersons, List<List<Long>> shardRanks) {
+        ranks.clear();
+        nextRank = 0;
+        for (int shard = 0; shard < shardPersons.size(); shard++) {
+            for (int i = 0; i < shardPersons.get(shard).size(); i++) {
+                long rank = shardRanks.get(shard).get(i);
+                ranks.put(shardPersons.get(shard).get(i).getId(), rank);
+                nextRank = Math.max(nextRank, rank + 1);
+            }
+        }
+    }
+
+    /**
+     * Reads the persons of the shard numbered {@code shard} of the contact book with its manifest at
+     * {@code filePath} into {@code persons}, and their ranks into {@code ranks}.
+     */
+    private static void readShard(Path filePath, int shard, List<Person> persons, List<Long> ranks)
+            throws DataLoadingException {
+        Path shardFilePath = getShardFilePath(filePath, shard);
+        Optional<JsonSerializableShard> jsonShard = JsonUtil.readJsonFile(shardFilePath, JsonSerializableShard.class);
+        if (!jsonShard.isPresent()) {
+            throw new DataLoadingException(new IOException(String.format(MESSAGE_MISSING_SHARD, shard)));
+        }
+
+        try {
+            jsonShard.get().toModelType(persons, ranks);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns a contact book of the persons of every shard, ordered by rank.
+     */
+    private static AddressBook merge(List<List<Person>> shardPersons, List<List<Long>> shardRanks)
+            throws DataLoadingException {
+        List<Person> persons = new ArrayList<>();
+        List<Long> ranks = new ArrayList<>();
+        for (int shard = 0; shard < shardPersons.size(); shard++) {
+            persons.addAll(shardPersons.get(shard));
+            ranks.addAll(shardRanks.get(shard));
+        }
+
+        Integer[] order = new Integer[persons.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(ranks::get));
+        List<Person> orderedPersons = new ArrayList<>(order.length);
+        for (int position : order) {
+            orderedPersons.add(persons.get(position));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(orderedPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        // snapshots of the same contact book share its changes
+        Optional<List<AddressBookChange>> changes = addressBook.getOrigin() == savedOrigin
+                ? addressBook.getChangesSince(savedChangeSequence)
+                : Optional.empty();
+        long changeSequence = addressBook.getChangeSequence();
+        // if writing fails, the shards may not match either state, so the next save has to rewrite them all
+        savedOrigin = null;
+        isShardsRead = false;
+
+        boolean[] dirtyShards = changes.isPresent() ? applyChanges(changes.get()) : null;
+        if (dirtyShards == null) {
+            rerank(addressBook.getPersonList());
+            writeShards(addressBook, filePath, shardCount, ranks, null);
+        } else {
+            writeShards(addressBook, filePath, shardCount, ranks, dirtyShards);
+        }
+
+        savedOrigin = addressBook.getOrigin();
+        savedChangeSequence = changeSequence;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the shards its later changes touch are rewritten if the shards were last read by this storage, and
+     * have not been written since.
+     */
+    @Override
+    public void setSavedAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (isShardsRead) {
+            savedOrigin = addressBook.getOrigin();
+            savedChangeSequence = addressBook.getChangeSequence();
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's writes every shard there.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        Map<Long, Long> positions = new HashMap<>();
+        List<Person> persons = addressBook.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i).getId(), (long) i);
+        }
+        writeShards(addressBook, filePath, shardCount, positions, null);
+    }
+
+    /**
+     * Updates the saved ranks with {@code changes} and returns which shards they touch,
+     * or null if every shard has to be rewritten.
+     */
+    private boolean[] applyChanges(List<AddressBookChange> changes) {
+        boolean[] dirtyShards = new boolean[shardCount];
+        for (AddressBookChange change : changes) {
+            switch (change.getType()) {
+            case ADD:
+                ranks.put(change.getPerson().getId(), nextRank++);
+                dirtyShards[getShard(change.getPerson().getId(), shardCount)] = true;
+                break;
+            case SET:
+                Long rank = ranks.remove(change.getTargetId());
+                if (rank == null) {
+                    return null;
+                }
+                ranks.put(change.getPerson().getId(), rank);
+                dirtyShards[getShard(change.getTargetId(), shardCount)] = true;
+                dirtyShards[getShard(change.getPerson().getId(), shardCount)] = true;
+                break;
+            case REMOVE:
+                ranks.remove(change.getTargetId());
+                dirtyShards[getShard(change.getTargetId(), shardCount)] = true;
+                break;
+            default:
+                // the whole list was reordered or replaced
+                return null;
+            }
+        }
+        return dirtyShards;
+    }
+
+    /**
+     * Ranks {@code persons} by their position.
+     */
+    private void rerank(List<Person> persons) {
+        ranks.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            ranks.put(persons.get(i).getId(), (long) i);
+        }
+        nextRank = persons.size();
+    }
+
+    /**
+     * Writes the shards of {@code addressBook} marked in {@code dirtyShards}, or every shard and the manifest if
+     * {@code dirtyShards} is null, for the manifest at {@code filePath}.
+     * Each shard is replaced atomically.
+     */
+    private static void writeShards(ReadOnlyAddressBook addressBook, Path filePath, int shardCount,
+            Map<Long, Long> ranks, boolean[] dirtyShards) throws IOException {
+        List<List<Person>> shardPersons = new ArrayList<>(shardCount);
+        List<List<Long>> shardRanks = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardPersons.add(new ArrayList<>());
+            shardRanks.add(new ArrayList<>());
+        }
+        for (Person person : addressBook.getPersonList()) {
+            int shard = getShard(person.getId(), shardCount);
+            if (dirtyShards == null || dirtyShards[shard]) {
+                assert ranks.containsKey(person.getId());
+                shardPersons.get(shard).add(person);
+                shardRanks.get(shard).add(ranks.get(person.getId()));
+            }
+        }
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (dirtyShards == null || dirtyShards[shard]) {
+                JsonUtil.saveJsonFileAtomically(new JsonSerializableShard(shardPersons.get(shard),
+                        shardRanks.get(shard)), getShardFilePath(filePath, shard), false);
+            }
+        }
+        if (dirtyShards == null) {
+            // the manifest goes last, so that it only ever lists shards that exist
+            JsonUtil.saveJsonFileAtomically(new JsonShardManifest(shardCount), filePath, true);
+            deleteShardsFrom(filePath, shardCount);
+        }
+    }
+
+    /**
+     * Deletes the shards numbered {@code shardCount} and above, left behind by a manifest with more shards.
+     */
+    private static void deleteShardsFrom(Path filePath, int shardCount) throws IOException {
+        for (int shard = shardCount; shard < MAX_SHARD_COUNT && Files.exists(getShardFilePath(filePath, shard));
+                shard++) {
+            Files.delete(getShardFilePath(filePath, shard));
+        }
+    }
+
+}
@@ -3,6 +3,8 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +31,31 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the mutation epoch of the contact book as last saved to {@link #getAddressBookFilePath()},
+     * or {@code OptionalLong.empty()} if nothing has been saved there yet.
+     *
+     * @see ReadOnlyAddressBook#getChangeSequence()
+     */
+    OptionalLong getSavedAddressBookEpoch();
+
+    /**
+     * {@inheritDoc}
+     * The contact book is not saved again until it changes.
+     */
+    @Override
+    void setSavedAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Sets the handler told of saves that fail after {@link #saveAddressBook(ReadOnlyAddressBook)} has returned.
+     * Storage that saves before returning reports failures by throwing instead, so by default this does nothing.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {}
+
+    /**
+     * Blocks until every save requested so far has been written.
+     * Storage that saves before returning has nothing to wait for, so by default this returns at once.
+     */
+    default void flush() {}
+
 }
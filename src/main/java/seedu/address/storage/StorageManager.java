@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,6 +20,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private OptionalLong savedAddressBookEpoch = OptionalLong.empty();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -72,7 +74,22 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        long epoch = addressBook.getChangeSequence();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            savedAddressBookEpoch = OptionalLong.of(epoch);
+        }
+    }
+
+    @Override
+    public OptionalLong getSavedAddressBookEpoch() {
+        return savedAddressBookEpoch;
+    }
+
+    @Override
+    public void setSavedAddressBook(ReadOnlyAddressBook addressBook) {
+        addressBookStorage.setSavedAddressBook(addressBook);
+        savedAddressBookEpoch = OptionalLong.of(addressBook.getChangeSequence());
     }
 
 }
@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BufferedChannelWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_moreThanBuffer_allTextWritten() throws IOException {
+        Path filePath = testFolder.resolve("out.txt");
+        Files.writeString(filePath, "old contents that are longer than the new ones");
+
+        StringBuilder expected = new StringBuilder();
+        try (BufferedChannelWriter writer = new BufferedChannelWriter(filePath)) {
+            StringBuilder piece = new StringBuilder();
+            for (int i = 0; expected.length() < 3 * BufferedChannelWriter.BUFFER_SIZE; i++) {
+                piece.setLength(0);
+                piece.append("row ").append(i).append(", café 東京 😀\n");
+                writer.write(piece);
+                expected.append(piece);
+            }
+        }
+
+        assertEquals(expected.toString(), Files.readString(filePath, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_emptyFile_fileCreated() throws IOException {
+        Path filePath = testFolder.resolve("empty.txt");
+        new BufferedChannelWriter(filePath).close();
+        assertEquals("", Files.readString(filePath));
+    }
+
+    @Test
+    public void write_unpairedSurrogate_throwsCharacterCodingException() throws IOException {
+        try (BufferedChannelWriter writer = new BufferedChannelWriter(testFolder.resolve("out.txt"))) {
+            assertThrows(CharacterCodingException.class, () -> writer.write("ends in half a pair \uD83D"));
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_quotedAndUnquotedFields_fieldsRead() throws IOException {
+        CsvReader reader = readerOf("\uFEFFName,Phone\n\"Alice \"\"Al\"\" Pauline\",\"94351253\",,plain field\n");
+
+        assertEquals(Arrays.asList("Name", "Phone"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(Arrays.asList("Alice \"Al\" Pauline", "94351253", "", "plain field"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFieldOverManyLines_lineBreaksKept() throws IOException {
+        CsvReader reader = readerOf("\"Met at fair,\r\nbooth 3\n\",\"x\"\n\n\"next\"");
+
+        assertEquals(Arrays.asList("Met at fair,\nbooth 3\n", "x"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(Arrays.asList(""), reader.readRecord());
+        assertEquals(Arrays.asList("next"), reader.readRecord());
+        assertEquals(5, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unterminatedQuote_throwsIoException() throws IOException {
+        CsvReader reader = readerOf("\"a\"\n\"b,\nc");
+        reader.readRecord();
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNTERMINATED_QUOTE, 2), reader::readRecord);
+    }
+
+    private static CsvReader readerOf(String content) {
+        return new CsvReader(new BufferedReader(new StringReader(content)));
+    }
+
+}
@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    private final InternPool<StringBuilder> pool = new InternPool<>(value -> {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        return new StringBuilder(value);
+    }, 3);
+
+    @Test
+    public void constructor_nonPositiveMaxSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new InternPool<>(StringBuilder::new, 0));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> pool.intern(null));
+    }
+
+    @Test
+    public void intern_sameKey_returnsSameInstance() {
+        StringBuilder first = pool.intern("abc");
+        assertSame(first, pool.intern(new String("abc")));
+        StringBuilder second = pool.intern("abd");
+        assertNotSame(first, second);
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        assertThrows(IllegalArgumentException.class, () -> pool.intern(""));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void intern_poolFull_newValuesCreatedUnshared() {
+        // the pool only holds its values weakly, so they are held here to keep the pool full
+        StringBuilder first = pool.intern("a");
+        StringBuilder second = pool.intern("b");
+        StringBuilder third = pool.intern("c");
+        StringBuilder unshared = pool.intern("d");
+        assertEquals("d", unshared.toString());
+        assertNotSame(unshared, pool.intern("d"));
+        assertSame(first, pool.intern("a"));
+        assertSame(second, pool.intern("b"));
+        assertSame(third, pool.intern("c"));
+        assertEquals(3, pool.size());
+    }
+}
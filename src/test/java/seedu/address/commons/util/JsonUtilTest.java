@@ -1,8 +1,12 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -39,6 +43,24 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void toJsonStream_compactThenFromJsonStream_sameValues() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtil.toJsonStream(serializableTestClass, out, false);
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertFalse(json.contains("\n"));
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), json);
+
+        SerializableTestClass readBack = JsonUtil.fromJsonStream(
+                new ByteArrayInputStream(out.toByteArray()), SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+        assertEquals(SerializableTestClass.getListTestValues(), readBack.getListOfLocalDateTimes());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), readBack.getMapOfIntegerToString());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
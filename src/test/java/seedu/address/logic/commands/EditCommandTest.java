@@ -103,6 +103,8 @@ public class EditCommandTest {
         expectedModel.updateFilteredPersonList(p -> p.equals(editedPerson));
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        // the edited person keeps the id of the person it replaced
+        assertEquals(personInFilteredList.getId(), model.getFilteredPersonList().get(0).getId());
     }
 
     @Test
@@ -162,6 +164,17 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_PERSON_NAME_NOT_FOUND);
     }
 
+    @Test
+    public void executeByName_nameNotDisplayed_failure() {
+        // only the first person is shown, so the second person cannot be referenced by name
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person secondPerson = getTypicalAddressBook().getPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+        EditCommand editCommand = new EditCommand(secondPerson.getName().fullName, descriptor);
+
+        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_PERSON_NAME_NOT_FOUND);
+    }
+
     @Test
     public void execute_duplicatePersonUnfilteredList_failure() {
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
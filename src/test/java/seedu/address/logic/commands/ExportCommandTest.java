@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
@@ -9,6 +10,10 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,9 +50,10 @@ public class ExportCommandTest {
     public void execute_validFileName_success() throws IOException {
         String fileName = "test_contacts.csv";
         ExportCommand command = new ExportCommand(fileName);
-        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_SUCCESS, fileName));
+        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_STARTED, 7, fileName));
 
         assertCommandSuccess(command, model, expectedResult, model);
+        assertEquals(Arrays.asList(String.format(ExportCommand.MESSAGE_SUCCESS, fileName)), executeAndExport(command));
 
         exportedFile = new File(desktopPath + fileName);
         assertTrue(exportedFile.exists(), "Exported CSV file should exist on Desktop.");
@@ -63,9 +69,10 @@ public class ExportCommandTest {
         String fileName = "test_without_extension";
         ExportCommand command = new ExportCommand(fileName);
         CommandResult expectedResult = new CommandResult(String.format(
-                ExportCommand.MESSAGE_SUCCESS, fileName + ".csv"));
+                ExportCommand.MESSAGE_STARTED, 7, fileName + ".csv"));
 
         assertCommandSuccess(command, model, expectedResult, model);
+        executeAndExport(command);
 
         exportedFile = new File(desktopPath + fileName + ".csv");
         assertTrue(exportedFile.exists(), "File should be saved with .csv extension automatically");
@@ -76,9 +83,10 @@ public class ExportCommandTest {
         model = new ModelManager();
         String fileName = "empty_contacts.csv";
         ExportCommand command = new ExportCommand(fileName);
-        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_SUCCESS, fileName));
+        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_STARTED, 0, fileName));
 
         assertCommandSuccess(command, model, expectedResult, model);
+        executeAndExport(command);
 
         exportedFile = new File(desktopPath + fileName);
         assertTrue(exportedFile.exists(), "Empty export file should still be created.");
@@ -91,6 +99,27 @@ public class ExportCommandTest {
         }
     }
 
+    @Test
+    public void execute_listedOnly_onlyListedContactsExported() throws IOException {
+        String fileName = "listed_contacts.csv";
+        ExportCommand command = new ExportCommand(fileName, true);
+        model.updateFilteredPersonList(person -> person.equals(TypicalPersons.ALICE));
+
+        CommandResult result = command.execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 1, fileName), result.getFeedbackToUser());
+
+        // the contacts are copied when the command is executed, so later changes are not exported
+        model.deletePerson(TypicalPersons.ALICE);
+        List<String> messages = new ArrayList<>();
+        result.getBackgroundTask().get().run(messages::add);
+        assertEquals(Arrays.asList(String.format(ExportCommand.MESSAGE_SUCCESS, fileName)), messages);
+
+        exportedFile = new File(desktopPath + fileName);
+        List<String> lines = Files.readAllLines(exportedFile.toPath());
+        assertEquals(Arrays.asList(ExportCommand.CSV_HEADER,
+                "\"Alice Pauline\",\"94351253\",\"alice@example.com\",\"Google\",\"\",\"friends\""), lines);
+    }
+
     @Test
     public void escapeCsv_nullInput_returnsEmptyString() throws Exception {
         ExportCommand command = new ExportCommand("test.csv");
@@ -131,10 +160,26 @@ public class ExportCommandTest {
         assertTrue(!a.equals(b), "Commands with different filenames should not be equal.");
     }
 
+    @Test
+    public void equals_differentListedOnly_returnsFalse() {
+        assertFalse(new ExportCommand("file.csv").equals(new ExportCommand("file.csv", true)));
+        assertTrue(new ExportCommand("file.csv").equals(new ExportCommand("file.csv", false)));
+    }
+
     @Test
     public void equals_differentType_returnsFalse() {
         ExportCommand a = new ExportCommand("file.csv");
         Object other = "not a command";
         assertTrue(!a.equals(other), "ExportCommand should not equal non-command objects.");
     }
+
+    /**
+     * Executes {@code command} on the model, runs the export it leaves on this thread instead of in the background,
+     * and returns the messages the export reports.
+     */
+    private List<String> executeAndExport(ExportCommand command) {
+        List<String> messages = new ArrayList<>();
+        command.execute(model).getBackgroundTask().get().run(messages::add);
+        return messages;
+    }
 }
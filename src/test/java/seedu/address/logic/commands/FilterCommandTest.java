@@ -89,6 +89,34 @@ public class FilterCommandTest {
         assertFilterResult(predicate, 3);
     }
 
+    @Test
+    public void execute_requiredTags_onlyPersonsWithAllTagsDisplayed() {
+        TagsContainTagPredicate predicate = new TagsContainTagPredicate(Collections.emptyList(),
+                createTags("friends", "owesMoney"), Collections.emptyList());
+        assertFilterResult(predicate, 1);
+    }
+
+    @Test
+    public void execute_excludedTags_personsWithoutTagsDisplayed() {
+        TagsContainTagPredicate predicate = new TagsContainTagPredicate(createTags("friends"),
+                Collections.emptyList(), createTags("owesMoney"));
+        assertFilterResult(predicate, 2);
+
+        // excluded tags alone are applied to every contact
+        predicate = new TagsContainTagPredicate(Collections.emptyList(), Collections.emptyList(),
+                createTags("friends"));
+        assertFilterResult(predicate, getTypicalAddressBook().getPersonList().size() - 3);
+    }
+
+    /**
+     * Creates a list of tags from tag names.
+     */
+    private List<Tag> createTags(String... tagNames) {
+        return Arrays.stream(tagNames)
+                .map(Tag::new)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Creates a TagsContainTagPredicate from tag names.
      * @param tagNames One or more tag names to be used to create tags
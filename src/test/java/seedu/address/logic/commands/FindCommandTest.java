@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameOrCompanyPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Integration tests (interaction with the Model) for {@code FindCommand}.
@@ -80,6 +83,35 @@ public class FindCommandTest {
         assertTrue(model.getFilteredPersonList().contains(ALICE));
     }
 
+    @Test
+    public void execute_shortNameKeyword_success() {
+        // keywords shorter than a trigram are matched by scanning every person
+        NameOrCompanyPredicate predicate =
+                new NameOrCompanyPredicate(Optional.of("rl"), Optional.empty());
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().contains(CARL));
+    }
+
+    @Test
+    public void execute_nameChangedByEdit_findsNewName() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Zed").build();
+        model.setPerson(ALICE, editedAlice);
+        expectedModel.setPerson(ALICE, editedAlice);
+
+        NameOrCompanyPredicate predicate =
+                new NameOrCompanyPredicate(Optional.of("a zed"), Optional.empty());
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(editedAlice, model.getFilteredPersonList().get(0));
+    }
+
     @Test
     public void execute_caseInsensitiveName_success() {
         NameOrCompanyPredicate predicate =
@@ -120,6 +152,31 @@ public class FindCommandTest {
         assertTrue(model.getFilteredPersonList().contains(CARL));
     }
 
+    @Test
+    public void execute_multipleCompanyWords_success() {
+        // any keyword word may match a whole company word
+        NameOrCompanyPredicate predicate =
+                new NameOrCompanyPredicate(Optional.empty(), Optional.of("google  AMAZON micro"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_shortNameKeywordAndCompany_success() {
+        NameOrCompanyPredicate predicate =
+                new NameOrCompanyPredicate(Optional.of("al"), Optional.of("google amazon"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_nameAndCompanyMismatch_returnsEmptyList() {
         NameOrCompanyPredicate predicate =
@@ -0,0 +1,182 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_newContacts_allAdded() throws Exception {
+        Model model = new ModelManager();
+        Person amyWithDetail = new PersonBuilder(AMY).withDetail("Met at \"Demo Day\",\nbooth 3").build();
+        Path csvFilePath = writeCsv(ExportCommand.CSV_HEADER, toCsvRow(amyWithDetail), "", toCsvRow(BOB));
+
+        CommandResult result = new ImportCommand(csvFilePath, false).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, csvFilePath.getFileName(), 2, 0, 0),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(amyWithDetail, BOB), model.getAddressBook().getPersonList());
+        assertEquals(2, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_skippedAndReported() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person bobWithBensonEmail = new PersonBuilder(BOB).withEmail(BENSON.getEmail().value).build();
+        Path csvFilePath = writeCsv(toCsvRow(ALICE), toCsvRow(AMY), toCsvRow(AMY),
+                "\"Carol\",\"12\"", toCsvRow(bobWithBensonEmail), "\"Dan\",\"99998888\",,,,,\"extra\"",
+                "\"Eve Lim\",\"99997777\"");
+
+        CommandResult result = new ImportCommand(csvFilePath, false).execute(model);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 7, csvFilePath.getFileName(), 2, 0, 5)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_SKIPPED, 1, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_SKIPPED, 3, ImportCommand.MESSAGE_DUPLICATE_ROW)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_SKIPPED, 4, Phone.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_SKIPPED, 5, AddCommand.MESSAGE_DUPLICATE_EMAIL)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_SKIPPED, 6,
+                        String.format(ImportCommand.MESSAGE_TOO_MANY_FIELDS, 6, 7));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(BOB));
+        Person eve = model.findPersonsByName("Eve Lim").get(0);
+        assertTrue(eve.getEmail().isPlaceholder());
+        assertEquals("N/A", eve.getCompany().value);
+    }
+
+    @Test
+    public void execute_mergeExistingContact_detailsMerged() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person alice = model.findPersonsByName(ALICE.getName().fullName).get(0);
+        Path csvFilePath = writeCsv("\"alice  pauline\",\"94351253\",\"\",\"N/A\",\"Prefers email\",\"colleague\"",
+                "\"Alice Pauline\",\"94351253\",\"alice@work.com\",,,");
+
+        CommandResult result = new ImportCommand(csvFilePath, true).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, csvFilePath.getFileName(), 0, 2, 0),
+                result.getFeedbackToUser());
+
+        Person expectedAlice = new PersonBuilder(ALICE).withEmail("alice@work.com").withDetail("Prefers email")
+                .withTags("friends", "colleague").build();
+        Person mergedAlice = model.findPersonsByName(ALICE.getName().fullName).get(0);
+        assertEquals(expectedAlice, mergedAlice);
+        assertEquals(alice.getId(), mergedAlice.getId());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_mergeChangesEmail_oldEmailFreeForLaterRows() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person amyWithAliceEmail = new PersonBuilder(AMY).withEmail(ALICE.getEmail().value).build();
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail("alice@work.com").build();
+        Path csvFilePath = writeCsv("\"Alice Pauline\",\"94351253\",\"alice@work.com\",,,",
+                toCsvRow(amyWithAliceEmail), toCsvRow(bobWithAliceEmail));
+
+        CommandResult result = new ImportCommand(csvFilePath, true).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 3, csvFilePath.getFileName(), 1, 1, 1)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_SKIPPED, 3, AddCommand.MESSAGE_DUPLICATE_EMAIL),
+                result.getFeedbackToUser());
+        assertTrue(model.getAddressBook().getPersonList().contains(amyWithAliceEmail));
+    }
+
+    @Test
+    public void execute_manySkippedRows_onlyFirstRowsListed() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_SKIPS + 5; i++) {
+            rows.add("\"Invalid " + i + "\",\"1\"");
+        }
+        Path csvFilePath = writeCsv(rows.toArray(new String[0]));
+
+        String feedback = new ImportCommand(csvFilePath, false).execute(new ModelManager()).getFeedbackToUser();
+        assertEquals(ImportCommand.MAX_REPORTED_SKIPS + 2, feedback.split("\n").length);
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_SKIPPED, 5)));
+    }
+
+    @Test
+    public void execute_unreadableFile_contactBookUnchanged() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path missingFilePath = testFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, missingFilePath), ()
+                -> new ImportCommand(missingFilePath, false).execute(model));
+
+        Path csvFilePath = writeCsv(toCsvRow(AMY), "\"Bob Choo,\"22222222\"");
+        assertThrows(CommandException.class, () -> new ImportCommand(csvFilePath, false).execute(model));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_exportedFile_sameContactsImported() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String fileName = "import_round_trip";
+        new ExportCommand(fileName).execute(model).getBackgroundTask().get().run(message -> {});
+        File exportedFile = Paths.get(System.getProperty("user.home"), "Desktop", fileName + ".csv").toFile();
+
+        try {
+            Model importedModel = new ModelManager();
+            new ImportCommand(Paths.get(fileName), false).execute(importedModel);
+            assertEquals(new AddressBook(getTypicalAddressBook()), importedModel.getAddressBook());
+        } finally {
+            exportedFile.delete();
+        }
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("contacts.csv"), false);
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("contacts.csv"), false)));
+
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("contacts.csv"), true)));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("other.csv"), false)));
+    }
+
+    /**
+     * Returns {@code person} as a row in the format written by {@code ExportCommand}.
+     */
+    private static String toCsvRow(Person person) {
+        String tags = person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(";"));
+        return Arrays.asList(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getCompany().value, person.getDetail().value, tags).stream()
+                .map(field -> "\"" + field.replace("\"", "\"\"") + "\"")
+                .collect(Collectors.joining(","));
+    }
+
+    private Path writeCsv(String... rows) throws IOException {
+        Path csvFilePath = testFolder.resolve("contacts.csv");
+        Files.write(csvFilePath, Arrays.asList(rows));
+        return csvFilePath;
+    }
+
+}
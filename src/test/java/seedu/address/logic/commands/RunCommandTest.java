@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.COMPANY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.COMPANY_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunCommandTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + COMPANY_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+            + COMPANY_DESC_BOB;
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validScript_allLinesRun() throws Exception {
+        Path scriptFilePath = writeScript("# new contacts", ADD_AMY, "", "   " + ADD_BOB,
+                DeleteCommand.COMMAND_WORD + " " + ALICE.getName().fullName);
+
+        CommandResult result = new RunCommand(scriptFilePath, false).execute(model);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, scriptFilePath.getFileName(), 3, 0),
+                result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+        assertFalse(model.hasPerson(ALICE));
+        assertEquals(model.getAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_failingLines_failuresReported() throws Exception {
+        Path scriptFilePath = writeScript(ADD_AMY, "unknown", ADD_AMY, ADD_BOB);
+
+        CommandResult result = new RunCommand(scriptFilePath, false).execute(model);
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 4, scriptFilePath.getFileName(), 2, 2)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILURE, 3, AddCommand.MESSAGE_DUPLICATE_PERSON);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertTrue(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_stoppedOnError_laterLinesNotRun() throws Exception {
+        Path scriptFilePath = writeScript(ADD_AMY, "unknown", ADD_BOB);
+
+        CommandResult result = new RunCommand(scriptFilePath, true).execute(model);
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2, scriptFilePath.getFileName(), 1, 1)
+                + " " + String.format(RunCommand.MESSAGE_STOPPED, 2)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_manyFailingLines_onlyFirstFailuresListed() throws Exception {
+        String[] lines = new String[RunCommand.MAX_REPORTED_FAILURES + 5];
+        Arrays.fill(lines, "unknown");
+        Path scriptFilePath = writeScript(lines);
+
+        String feedback = new RunCommand(scriptFilePath, false).execute(model).getFeedbackToUser();
+        assertEquals(RunCommand.MAX_REPORTED_FAILURES + 2, feedback.split("\n").length);
+        assertTrue(feedback.endsWith(String.format(RunCommand.MESSAGE_MORE_FAILURES, 5)));
+    }
+
+    @Test
+    public void execute_nestedRun_failureReported() throws Exception {
+        Path scriptFilePath = writeScript(RunCommand.COMMAND_WORD + " f/other.txt");
+
+        String feedback = new RunCommand(scriptFilePath, false).execute(model).getFeedbackToUser();
+        assertTrue(feedback.endsWith(String.format(RunCommand.MESSAGE_LINE_FAILURE, 1, RunCommand.MESSAGE_NESTED_RUN)));
+    }
+
+    @Test
+    public void execute_scriptWithExport_exportLeftForBackground() throws Exception {
+        Path scriptFilePath = writeScript(ListCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD + " f/contacts");
+        assertTrue(new RunCommand(scriptFilePath, false).execute(model).getBackgroundTask().isPresent());
+
+        scriptFilePath = writeScript(ListCommand.COMMAND_WORD);
+        assertFalse(new RunCommand(scriptFilePath, false).execute(model).getBackgroundTask().isPresent());
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        RunCommand runCommand = new RunCommand(testFolder.resolve("missing.txt"), false);
+        assertThrows(CommandException.class, () -> runCommand.execute(model));
+        // the filtered person list is no longer held back
+        assertEquals(model.getAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_unreadableLaterLine_nothingRun() throws Exception {
+        Path scriptFilePath = writeScript(ADD_AMY);
+        // bytes that are not valid UTF-8 after the first line
+        Files.write(scriptFilePath, new byte[] {(byte) 0xC3, (byte) 0x28, '\n'}, StandardOpenOption.APPEND);
+
+        RunCommand runCommand = new RunCommand(scriptFilePath, false);
+        assertThrows(CommandException.class, () -> runCommand.execute(model));
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(testFolder.resolve("script.txt"), false);
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(testFolder.resolve("script.txt"), false)));
+
+        assertFalse(runCommand.equals(null));
+        assertFalse(runCommand.equals(new RunCommand(testFolder.resolve("script.txt"), true)));
+        assertFalse(runCommand.equals(new RunCommand(testFolder.resolve("other.txt"), false)));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptFilePath = testFolder.resolve("script.txt");
+        Files.write(scriptFilePath, Arrays.asList(lines));
+        return scriptFilePath;
+    }
+
+}
@@ -136,6 +136,32 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_cliSyntaxPrefixes() {
+        String argsString = "1 t/friends t+/ colleague t-/family n/Alex t/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, CliSyntax.PREFIX_TAG,
+                CliSyntax.PREFIX_TAG_ADD, CliSyntax.PREFIX_TAG_DELETE);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, CliSyntax.PREFIX_TAG, "friends", "");
+        assertArgumentPresent(argMultimap, CliSyntax.PREFIX_TAG_ADD, "colleague");
+        assertArgumentPresent(argMultimap, CliSyntax.PREFIX_TAG_DELETE, "family n/Alex");
+        assertArgumentAbsent(argMultimap, CliSyntax.PREFIX_NAME);
+    }
+
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixTaken() {
+        Prefix dashTq = new Prefix("-t^Q");
+        String argsString = "preamble -t^Q value -t other value";
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTq);
+        assertArgumentPresent(argMultimap, dashTq, "value");
+        assertArgumentPresent(argMultimap, dashT, "other value");
+
+        // only the given prefixes are recognized
+        argMultimap = ArgumentTokenizer.tokenize(argsString, dashT);
+        assertArgumentPresent(argMultimap, dashT, "^Q value", "other value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
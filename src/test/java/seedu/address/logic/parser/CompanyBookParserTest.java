@@ -1,6 +1,8 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
@@ -147,4 +150,40 @@ public class CompanyBookParserTest {
         assertThrows(ParseException.class,
                 MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_multiLineArguments_throwsParseException() {
+        assertThrows(ParseException.class,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), () ->
+                        parser.parseCommand(FindCommand.COMMAND_WORD + " n/Alice\nc/Google"));
+    }
+
+    @Test
+    public void parseCommand_repeatedInput_reusesOnlyReusableCommands() throws Exception {
+        String findInput = FindCommand.COMMAND_WORD + " n/Alice";
+        assertSame(parser.parseCommand(findInput), parser.parseCommand(findInput));
+        // other input is parsed, even if it gives an equal command
+        assertNotSame(parser.parseCommand(findInput), parser.parseCommand(findInput + " "));
+
+        // added persons are given a new id when parsed
+        String addInput = PersonUtil.getAddCommand(new PersonBuilder().build());
+        assertNotSame(parser.parseCommand(addInput), parser.parseCommand(addInput));
+        String clearInput = ClearCommand.COMMAND_WORD;
+        assertNotSame(parser.parseCommand(clearInput), parser.parseCommand(clearInput));
+    }
+
+    @Test
+    public void parseCommand_moreInputsThanCacheSize_leastRecentlyUsedEvicted() throws Exception {
+        String firstInput = FindCommand.COMMAND_WORD + " n/Alice";
+        String secondInput = FindCommand.COMMAND_WORD + " n/Benson";
+        Command firstCommand = parser.parseCommand(firstInput);
+        Command secondCommand = parser.parseCommand(secondInput);
+
+        parser.parseCommand(firstInput);
+        for (int i = 0; i < AddressBookParser.CACHE_SIZE - 1; i++) {
+            parser.parseCommand(FindCommand.COMMAND_WORD + " n/Person" + i);
+        }
+        assertSame(firstCommand, parser.parseCommand(firstInput));
+        assertNotSame(secondCommand, parser.parseCommand(secondInput));
+    }
 }
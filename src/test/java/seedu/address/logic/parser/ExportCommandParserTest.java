@@ -120,5 +120,21 @@ public class ExportCommandParserTest {
                 "Expected ParseException when duplicate f/ prefixes are used.");
     }
 
+    @Test
+    public void parse_listedOnlyFlag_success() throws Exception {
+        assertEquals(new ExportCommand("contacts", true), parser.parse(" f/contacts l/"),
+                "Parser should create an ExportCommand for the listed contacts only.");
+        assertEquals(new ExportCommand("contacts", true), parser.parse(" l/ f/contacts"),
+                "The flag may come before the file name.");
+    }
+
+    @Test
+    public void parse_invalidListedOnlyFlag_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" f/contacts l/yes"),
+                "Parser should reject a value given to the l/ flag.");
+        assertThrows(ParseException.class, () -> parser.parse(" f/contacts l/ l/"),
+                "Parser should reject a repeated l/ flag.");
+    }
+
 
 }
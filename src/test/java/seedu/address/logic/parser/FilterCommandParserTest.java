@@ -3,10 +3,13 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FIELD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_ADD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_DELETE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +34,19 @@ public class FilterCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_TAG + " friend " + PREFIX_TAG + " colleague ", expectedFilterCommand);
     }
 
+    @Test
+    public void parse_requiredAndExcludedTags_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new TagsContainTagPredicate(
+                Arrays.asList(new Tag("friend")), Arrays.asList(new Tag("colleague")), Arrays.asList(new Tag("boss"))));
+        assertParseSuccess(parser, " " + PREFIX_TAG + "friend " + PREFIX_TAG_ADD + "colleague "
+                + PREFIX_TAG_DELETE + "boss", expectedFilterCommand);
+
+        // excluded tags alone
+        expectedFilterCommand = new FilterCommand(new TagsContainTagPredicate(
+                Collections.emptyList(), Collections.emptyList(), Arrays.asList(new Tag("boss"))));
+        assertParseSuccess(parser, " " + PREFIX_TAG_DELETE + "boss", expectedFilterCommand);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         String expectedResult = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
@@ -45,6 +61,10 @@ public class FilterCommandParserTest {
 
         // Invalid tag name
         assertParseFailure(parser, " " + PREFIX_TAG + " invalid   tag", expectedResult);
+        assertParseFailure(parser, " " + PREFIX_TAG_DELETE + " invalid*", expectedResult);
+
+        // PREFIX_TAG_ADD present but empty tag
+        assertParseFailure(parser, " " + PREFIX_TAG + " friend " + PREFIX_TAG_ADD, expectedResult);
 
         // Empty tag in a stream of tags
         assertParseFailure(
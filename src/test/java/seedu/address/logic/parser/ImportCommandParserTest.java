@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " f/partner contacts.csv",
+                new ImportCommand(Paths.get("partner contacts.csv"), false));
+        assertParseSuccess(parser, " f/contacts m/", new ImportCommand(Paths.get("contacts"), true));
+        assertParseSuccess(parser, " m/ f/contacts.csv ", new ImportCommand(Paths.get("contacts.csv"), true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no file
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " f/ m/", MESSAGE_INVALID_FORMAT);
+
+        // preamble
+        assertParseFailure(parser, " contacts.csv", MESSAGE_INVALID_FORMAT);
+
+        // value given to the merge flag
+        assertParseFailure(parser, " f/contacts.csv m/yes", MESSAGE_INVALID_FORMAT);
+
+        // repeated prefixes
+        assertParseFailure(parser, " f/contacts.csv m/ m/",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_MERGE));
+    }
+
+}
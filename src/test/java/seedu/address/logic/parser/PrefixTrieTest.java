@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG_ADD;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie(CliSyntax.getAllPrefixes());
+
+    @Test
+    public void containsAll() {
+        assertTrue(trie.containsAll());
+        assertTrue(trie.containsAll(PREFIX_NAME, new Prefix("t/")));
+        assertTrue(trie.containsAll(new Prefix("")));
+
+        assertFalse(trie.containsAll(PREFIX_NAME, new Prefix("x/")));
+        // a path of the trie that does not end at a prefix
+        assertFalse(trie.containsAll(new Prefix("t")));
+    }
+
+    @Test
+    public void match() {
+        String argsString = " n/Alex t+/friends t/";
+        assertEquals(PREFIX_NAME, trie.match(argsString, 1, PREFIX_NAME, PREFIX_TAG));
+        assertEquals(PREFIX_TAG_ADD, trie.match(argsString, 8, PREFIX_TAG, PREFIX_TAG_ADD));
+        assertEquals(PREFIX_TAG, trie.match(argsString, 19, PREFIX_TAG));
+
+        // prefixes that are not given are not matched
+        assertNull(trie.match(argsString, 1, PREFIX_TAG));
+        assertNull(trie.match(argsString, 8, PREFIX_TAG));
+        // the end of the string cuts prefixes short
+        assertNull(trie.match(" t", 1, PREFIX_TAG));
+        assertNull(trie.match(argsString, 0, PREFIX_NAME));
+    }
+
+}
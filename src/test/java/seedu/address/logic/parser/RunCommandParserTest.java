@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " f/scripts/new contacts.txt",
+                new RunCommand(Paths.get("scripts/new contacts.txt"), false));
+        assertParseSuccess(parser, " f/script.txt s/", new RunCommand(Paths.get("script.txt"), true));
+        assertParseSuccess(parser, " s/ f/script.txt ", new RunCommand(Paths.get("script.txt"), true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no file
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " f/ s/", MESSAGE_INVALID_FORMAT);
+
+        // preamble
+        assertParseFailure(parser, " script.txt", MESSAGE_INVALID_FORMAT);
+
+        // value given to the stop flag
+        assertParseFailure(parser, " f/script.txt s/yes", MESSAGE_INVALID_FORMAT);
+
+        // repeated prefixes
+        assertParseFailure(parser, " f/script.txt f/other.txt",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FILE_PATH));
+    }
+
+}
@@ -4,22 +4,27 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPANY_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.TagsContainTagPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 public class CompanyBookTest {
@@ -54,6 +59,67 @@ public class CompanyBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesIdentityIndex() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        assertTrue(addressBook.hasPerson(ALICE));
+
+        // later changes to the source must not leak into the copy
+        newData.removePerson(ALICE);
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void hasEmail_nullEmail_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.hasEmail(null));
+    }
+
+    @Test
+    public void hasEmail_tracksAddSetAndRemove() {
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.hasEmail(ALICE.getEmail()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertFalse(addressBook.hasEmail(ALICE.getEmail()));
+        assertTrue(addressBook.hasEmail(editedAlice.getEmail()));
+
+        addressBook.removePerson(editedAlice);
+        assertFalse(addressBook.hasEmail(editedAlice.getEmail()));
+    }
+
+    @Test
+    public void hasEmail_sharedEmailOneHolderRemoved_stillInUse() {
+        Person otherAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(otherAlice);
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.hasEmail(ALICE.getEmail()));
+
+        Person editedAlice = new PersonBuilder(otherAlice).withEmail(VALID_EMAIL_BOB).build();
+        addressBook.setPerson(otherAlice, editedAlice);
+        assertFalse(addressBook.hasEmail(ALICE.getEmail()));
+    }
+
+    @Test
+    public void hasEmail_placeholderEmail_returnsFalse() {
+        Person placeholderAlice = new PersonBuilder(ALICE).withEmail(Email.PLACEHOLDER).build();
+        addressBook.addPerson(placeholderAlice);
+        assertFalse(addressBook.hasEmail(placeholderAlice.getEmail()));
+    }
+
+    @Test
+    public void hasEmail_afterResetData_tracksNewData() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(new AddressBook());
+        assertFalse(addressBook.hasEmail(ALICE.getEmail()));
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.hasEmail(ALICE.getEmail()));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -78,11 +144,101 @@ public class CompanyBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void removePerson_equalPersonWithOtherId_removedFromIndexes() {
+        addressBook.addPerson(ALICE);
+        Person equalAlice = new PersonBuilder(ALICE).build();
+        addressBook.removePerson(equalAlice);
+
+        assertTrue(addressBook.findPersonsWithTags(
+                new TagsContainTagPredicate(new ArrayList<>(ALICE.getTags()))).isEmpty());
+        assertTrue(addressBook.findPersonsByName(ALICE.getName().fullName).isEmpty());
+    }
+
+    @Test
+    public void setPerson_equalTargetWithOtherId_storedPersonUnindexed() {
+        addressBook.addPerson(ALICE);
+        Person equalAlice = new PersonBuilder(ALICE).build();
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").withTags().build();
+        addressBook.setPerson(equalAlice, editedAlice);
+
+        assertTrue(addressBook.findPersonsWithTags(
+                new TagsContainTagPredicate(new ArrayList<>(ALICE.getTags()))).isEmpty());
+        assertTrue(addressBook.findPersonsByName(ALICE.getName().fullName).isEmpty());
+        assertEquals(Arrays.asList(editedAlice), addressBook.findPersonsByName("Alicia Pauline"));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getChangesSince_personLevelChanges_recordedInOrder() {
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getChangeSequence();
+        Person editedAlice = new PersonBuilder(ALICE).withCompany(VALID_COMPANY_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(editedAlice);
+
+        List<AddressBookChange> changes = addressBook.getChangesSince(afterAdd).get();
+        assertEquals(2, changes.size());
+        assertEquals(AddressBookChange.Type.SET, changes.get(0).getType());
+        assertEquals(ALICE.getId(), changes.get(0).getTargetId());
+        assertEquals(editedAlice, changes.get(0).getPerson());
+        assertEquals(AddressBookChange.Type.REMOVE, changes.get(1).getType());
+        assertEquals(afterAdd + 2, changes.get(1).getSequence());
+
+        // up to date -> no changes
+        assertEquals(Collections.emptyList(), addressBook.getChangesSince(addressBook.getChangeSequence()).get());
+
+        // unknown sequence -> changes not known
+        assertFalse(addressBook.getChangesSince(addressBook.getChangeSequence() + 1).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_listReplaced_earlierChangesDropped() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(getTypicalAddressBook());
+
+        assertFalse(addressBook.getChangesSince(0).isPresent());
+        List<AddressBookChange> changes = addressBook.getChangesSince(addressBook.getChangeSequence() - 1).get();
+        assertEquals(AddressBookChange.Type.RESET, changes.get(0).getType());
+
+        addressBook.setPersons(Collections.emptyList());
+        changes = addressBook.getChangesSince(addressBook.getChangeSequence() - 1).get();
+        assertEquals(AddressBookChange.Type.CLEAR, changes.get(0).getType());
+    }
+
+    @Test
+    public void getChangesSince_olderThanRetained_changesNotKnown() {
+        for (int i = 0; i <= AddressBook.MAX_RETAINED_CHANGES; i++) {
+            addressBook.sort(Comparator.comparing(person -> person.getName().fullName));
+        }
+        assertFalse(addressBook.getChangesSince(0).isPresent());
+        assertEquals(AddressBook.MAX_RETAINED_CHANGES, addressBook.getChangesSince(1).get().size());
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        addressBook.removePerson(ALICE);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(addressBook.getChangeSequence() - 1, snapshot.getChangeSequence());
+        assertEquals(addressBook, snapshot.getOrigin());
+        assertEquals(AddressBookChange.Type.ADD, snapshot.getChangesSince(0).get().get(0).getType());
+        assertFalse(snapshot.getChangesSince(addressBook.getChangeSequence()).isPresent());
+    }
+
+    @Test
+    public void findPersonById() {
+        addressBook.addPerson(ALICE);
+        assertEquals(ALICE, addressBook.findPersonById(ALICE.getId()).get());
+        assertFalse(addressBook.findPersonById(ALICE.getId() + 1).isPresent());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
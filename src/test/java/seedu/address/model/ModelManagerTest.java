@@ -7,20 +7,27 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.lang.reflect.Field;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.EndOfCommandHistoryException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameOrCompanyPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagsContainTagPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -91,6 +98,16 @@ public class ModelManagerTest {
         modelManager.addPerson(ALICE);
         assertTrue(modelManager.hasPerson(ALICE));
     }
+
+    @Test
+    public void addPersons_newPersons_allShown() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(person -> false);
+
+        modelManager.addPersons(Arrays.asList(BENSON, BOB));
+        assertTrue(modelManager.hasPerson(BOB));
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB), modelManager.getFilteredPersonList());
+    }
     @Test
     public void deletePerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.deletePerson(null));
@@ -144,6 +161,114 @@ public class ModelManagerTest {
         assertThrows(AssertionError.class, () -> manager.deletePerson(ALICE));
     }
 
+    @Test
+    public void startBatch_filterChanged_appliedOnlyOnceRead() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<Person> shownPersons = modelManager.getFilteredPersonList();
+
+        modelManager.startBatch();
+        modelManager.startBatch();
+        modelManager.updateFilteredPersonList(person -> false);
+        modelManager.updateFilteredPersonList(ALICE::equals);
+        assertEquals(2, shownPersons.size());
+
+        modelManager.endBatch();
+        assertEquals(2, shownPersons.size());
+        modelManager.endBatch();
+        assertEquals(Arrays.asList(ALICE), shownPersons);
+
+        // reading the filtered person list applies the latest filter
+        modelManager.startBatch();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+        modelManager.endBatch();
+    }
+
+    @Test
+    public void updateFilteredPersonListByTags_personsEditedAfterwards_filteredByTheirTags() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonListByTags(
+                new TagsContainTagPredicate(Arrays.asList(new Tag("owesMoney"))));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // gains the tag -> shown
+        Person editedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        // loses the tag -> hidden
+        Person editedBenson = new PersonBuilder(BENSON).withTags("friends").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByTags_personEditedAfterwards_onlyEditedPersonTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        int[] testCount = {0};
+        modelManager.updateFilteredPersonListByTags(new TagsContainTagPredicate(Arrays.asList(new Tag("owesMoney"))) {
+            @Override
+            public boolean test(Person person) {
+                testCount[0]++;
+                return super.test(person);
+            }
+        });
+        int testCountAfterLookup = testCount[0];
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("80000001").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+        assertEquals(testCountAfterLookup + 1, testCount[0]);
+    }
+
+    @Test
+    public void updateFilteredPersonListByTags_addressBookReset_lookedUpAgain() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonListByTags(
+                new TagsContainTagPredicate(Arrays.asList(new Tag("owesMoney"))));
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByNameOrCompany_personsEditedAfterwards_filteredByTheirNames() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonListByNameOrCompany(
+                new NameOrCompanyPredicate(Optional.of("meier"), Optional.empty()));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_personsEditedAfterwards_filteredByTheirNames() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonListByName("alice  PAULINE");
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("80000001").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(editedAlice).withName("Alicia Pauline").build();
+        modelManager.setPerson(editedAlice, renamedAlice);
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class CompanyIndexTest {
+
+    private static final Person GOLDMAN = new PersonBuilder().withName("Goldman Person").withPhone("91112222")
+            .withCompany("Goldman Sachs Group").build();
+
+    private final CompanyIndex companyIndex = new CompanyIndex();
+
+    @BeforeEach
+    public void setUp() {
+        // ALICE: Google, BENSON: Microsoft, CARL: Amazon
+        for (Person person : Arrays.asList(ALICE, BENSON, CARL, GOLDMAN)) {
+            companyIndex.add(person);
+        }
+    }
+
+    @Test
+    public void find_nullWords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> companyIndex.find(null));
+    }
+
+    @Test
+    public void find_matchingWords_returnsUnion() {
+        assertEquals(Set.of(ALICE), companyIndex.find(Collections.singletonList("google")));
+        assertEquals(Set.of(ALICE, CARL), companyIndex.find(Arrays.asList("amazon", "google", "unknown")));
+        assertEquals(Set.of(GOLDMAN), companyIndex.find(Collections.singletonList("sachs")));
+    }
+
+    @Test
+    public void find_partialWord_returnsEmptySet() {
+        assertEquals(Set.of(), companyIndex.find(Collections.singletonList("goo")));
+        assertEquals(Set.of(), companyIndex.find(Collections.emptyList()));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        companyIndex.remove(GOLDMAN);
+        assertEquals(Set.of(), companyIndex.find(Collections.singletonList("sachs")));
+
+        // removing a person that is not indexed does nothing
+        companyIndex.remove(GOLDMAN);
+        assertEquals(Set.of(ALICE), companyIndex.find(Collections.singletonList("google")));
+    }
+
+    @Test
+    public void clear_removesEveryPerson() {
+        companyIndex.clear();
+        assertEquals(Set.of(), companyIndex.find(Arrays.asList("google", "amazon")));
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class CompanyTest {
@@ -56,6 +60,31 @@ public class CompanyTest {
         assertFalse(company.equals(new Company("Microsoft")));
     }
 
+    @Test
+    public void getLowerCaseValue() {
+        assertEquals("morgan stanley", new Company("Morgan Stanley").getLowerCaseValue());
+    }
+
+    @Test
+    public void of() {
+        assertThrows(IllegalArgumentException.class, () -> Company.of(" "));
+        assertSame(Company.of("Morgan Stanley"), Company.of("Morgan Stanley"));
+        assertEquals(new Company("Morgan Stanley"), Company.of("Morgan Stanley"));
+    }
+
+    @Test
+    public void fromTrusted() {
+        Company company = Company.of("Jane Street");
+        assertSame(company, Company.fromTrusted("Jane Street"));
+        assertEquals(" invalid", Company.fromTrusted(" invalid").value);
+    }
+
+    @Test
+    public void getLowerCaseWords() {
+        assertEquals(Arrays.asList("morgan", "stanley"), new Company("Morgan  Stanley ").getLowerCaseWords());
+        assertEquals(Arrays.asList("n/a"), new Company("N/A").getLowerCaseWords());
+    }
+
     private String generateString(int length) {
         return "a".repeat(length);
     }
@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @BeforeEach
+    public void setUp() {
+        // Alice Pauline, Benson Meier, Carl Kurz, Daniel Meier
+        for (Person person : Arrays.asList(ALICE, BENSON, CARL, DANIEL)) {
+            nameIndex.add(person);
+        }
+    }
+
+    @Test
+    public void findByName_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.findByName(null));
+    }
+
+    @Test
+    public void findByName_sameNameDifferentCaseAndSpacing_returnsPerson() {
+        assertEquals(List.of(ALICE), nameIndex.findByName("  aLiCe   PAULINE "));
+        assertEquals(List.of(), nameIndex.findByName("Alice"));
+    }
+
+    @Test
+    public void findByName_sharedName_returnsEveryNamesake() {
+        Person otherBenson = new PersonBuilder(BENSON).withPhone("80000001").build();
+        nameIndex.add(otherBenson);
+        assertEquals(List.of(BENSON, otherBenson), nameIndex.findByName("benson meier"));
+
+        nameIndex.remove(BENSON);
+        assertEquals(List.of(otherBenson), nameIndex.findByName("benson meier"));
+    }
+
+    @Test
+    public void findNameCandidates_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.findNameCandidates(null));
+    }
+
+    @Test
+    public void findNameCandidates_shortKeyword_returnsEmptyOptional() {
+        assertFalse(nameIndex.findNameCandidates("").isPresent());
+        assertFalse(nameIndex.findNameCandidates("me").isPresent());
+    }
+
+    @Test
+    public void findNameCandidates_containedKeyword_returnsAllMatches() {
+        assertCandidatesContain("meier", BENSON, DANIEL);
+        assertCandidatesContain(" mei", BENSON, DANIEL);
+        assertCandidatesContain("ali", ALICE);
+    }
+
+    @Test
+    public void findNameCandidates_unknownTrigram_returnsNoCandidates() {
+        assertEquals(Optional.of(Set.of()), nameIndex.findNameCandidates("xyz"));
+        assertEquals(Optional.of(Set.of()), nameIndex.findNameCandidates("xyzé"));
+    }
+
+    @Test
+    public void findNameCandidates_nonAsciiTrigrams_notUsedForLookup() {
+        // such names only come from data files trusted without validation
+        Person zoe = new Person(Name.fromTrusted("Zoë Tan"), ALICE.getPhone(), ALICE.getEmail(), ALICE.getCompany(),
+                ALICE.getTags());
+        nameIndex.add(zoe);
+
+        assertFalse(nameIndex.findNameCandidates("zoë").isPresent());
+        assertCandidatesContain("zoë tan", zoe);
+        assertCandidatesContain("alié", ALICE);
+
+        nameIndex.remove(zoe);
+        assertEquals(Optional.of(Set.of()), nameIndex.findNameCandidates("zoë tan"));
+    }
+
+    @Test
+    public void remove_person_noLongerCandidate() {
+        nameIndex.remove(BENSON);
+        Set<Person> candidates = nameIndex.findNameCandidates("meier").get();
+        assertFalse(candidates.contains(BENSON));
+        assertTrue(candidates.contains(DANIEL));
+
+        // removing a person that is not indexed does nothing
+        nameIndex.remove(BENSON);
+        assertTrue(nameIndex.findNameCandidates("meier").get().contains(DANIEL));
+    }
+
+    @Test
+    public void clear_removesEveryPerson() {
+        nameIndex.clear();
+        assertTrue(nameIndex.findNameCandidates("alice").get().isEmpty());
+    }
+
+    private void assertCandidatesContain(String keyword, Person... expectedPersons) {
+        Set<Person> candidates = nameIndex.findNameCandidates(keyword).get();
+        for (Person person : expectedPersons) {
+            assertTrue(candidates.contains(person));
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -69,6 +72,26 @@ public class NameTest {
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
 
+    @Test
+    public void getLowerCaseName() {
+        assertEquals("john doe", new Name("  John   DOE ").getLowerCaseName());
+
+        // independent of the default locale, which lower-cases 'I' to a dotless i in Turkish
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("iris", new Name("IRIS").getLowerCaseName());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void normalize() {
+        assertEquals("John Doe", Name.normalize("  John \t  Doe "));
+        assertEquals("", Name.normalize("   "));
+    }
+
     private String generateString(int length) {
         return "a".repeat(length);
     }
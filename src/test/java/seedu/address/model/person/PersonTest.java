@@ -53,6 +53,46 @@ public class PersonTest {
         assertTrue(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void getId() {
+        // new persons get new ids
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertTrue(Person.isValidId(aliceCopy.getId()));
+        assertFalse(aliceCopy.getId() == ALICE.getId());
+
+        // ids are kept when given, and do not affect equality
+        Person aliceWithSameId = new Person(ALICE.getId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getCompany(), ALICE.getDetail(), ALICE.getTags());
+        assertEquals(ALICE.getId(), aliceWithSameId.getId());
+        assertEquals(aliceCopy, aliceWithSameId);
+
+        // ids must be positive
+        assertThrows(IllegalArgumentException.class, () -> new Person(0, ALICE.getName(), ALICE.getPhone(),
+                ALICE.getEmail(), ALICE.getCompany(), ALICE.getDetail(), ALICE.getTags()));
+
+        // new ids never reuse an id given explicitly
+        long largeId = Long.MAX_VALUE / 2;
+        new Person(largeId, BOB.getName(), BOB.getPhone(), BOB.getEmail(), BOB.getCompany(), BOB.getDetail(),
+                BOB.getTags());
+        assertTrue(new PersonBuilder(BOB).build().getId() > largeId);
+    }
+
+    @Test
+    public void getIdentityKey() {
+        // same identity -> same key
+        Person editedBob = new PersonBuilder(BOB).withName(VALID_NAME_BOB.toUpperCase() + " ")
+                .withEmail(VALID_EMAIL_BOB).withTags(VALID_TAG_HUSBAND).build();
+        assertEquals(BOB.getIdentityKey(), editedBob.getIdentityKey());
+
+        // different phone -> different key
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertFalse(ALICE.getIdentityKey().equals(editedAlice.getIdentityKey()));
+
+        // different name -> different key
+        editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        assertFalse(ALICE.getIdentityKey().equals(editedAlice.getIdentityKey()));
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -7,11 +7,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPANY_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +55,29 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksNewIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_tracksReplacementIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +89,33 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(CARL, BENSON));
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BENSON));
+        assertEquals(Optional.of(CARL), uniquePersonList.findById(CARL.getId()));
+
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withCompany(VALID_COMPANY_BOB).build();
+
+        // duplicate of a listed person
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, editedAlice)));
+
+        // duplicates among the added persons
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -127,6 +185,40 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonWithDifferentId_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void removeAndSetPerson_afterPositionsShift_targetsCorrectPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.sort(Comparator.comparing(person -> person.getPhone().value));
+        Person editedCarl = new PersonBuilder(CARL).withCompany(VALID_COMPANY_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(DANIEL);
+
+        List<Person> expectedPersons = new ArrayList<>(Arrays.asList(BENSON, editedCarl));
+        expectedPersons.sort(Comparator.comparing(person -> person.getPhone().value));
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_personWithExistingId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(withId(ALICE.getId(), BOB)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_listWithSameIdPersons_throwsDuplicatePersonException() {
+        List<Person> listWithDuplicateIds = Arrays.asList(ALICE, withId(ALICE.getId(), BOB));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicateIds));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +254,69 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .withCompany(VALID_COMPANY_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersonsLazily_personsRead_onlyWhenNeeded() {
+        List<Integer> reads = new ArrayList<>();
+        List<Person> source = new AbstractList<>() {
+            private final List<Person> persons = Arrays.asList(ALICE, BENSON, CARL);
+
+            @Override
+            public Person get(int index) {
+                reads.add(index);
+                return persons.get(index);
+            }
+
+            @Override
+            public int size() {
+                return persons.size();
+            }
+        };
+
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.setPersonsLazily(source);
+        assertFalse(uniquePersonList.isMaterialized());
+        assertEquals(3, uniquePersonList.asUnmodifiableObservableList().size());
+        assertEquals(BENSON, uniquePersonList.asUnmodifiableObservableList().get(1));
+        assertEquals(List.of(1), reads);
+
+        // copies share the source
+        UniquePersonList copy = new UniquePersonList();
+        copy.setPersons(uniquePersonList);
+        assertFalse(copy.isMaterialized());
+
+        // changes read every person first
+        uniquePersonList.add(DANIEL);
+        assertTrue(uniquePersonList.isMaterialized());
+        assertTrue(uniquePersonList.contains(CARL));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), copy.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void materialize_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.setPersonsLazily(Arrays.asList(ALICE, ALICE));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.materialize());
+    }
+
+    @Test
+    public void sort_samePersons_keepsOrderOfEqualPersons() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, BENSON, DANIEL));
+        uniquePersonList.sort(Comparator.comparing(person -> person.getName().fullName.length()));
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON, DANIEL).stream()
+                .sorted(Comparator.comparing(person -> person.getName().fullName.length()))
+                .collect(Collectors.toList()), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(BENSON), uniquePersonList.findById(BENSON.getId()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +327,9 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private static Person withId(long id, Person person) {
+        return new Person(id, person.getName(), person.getPhone(), person.getEmail(), person.getCompany(),
+                person.getDetail(), person.getTags());
+    }
 }
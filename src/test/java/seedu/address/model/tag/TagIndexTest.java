@@ -0,0 +1,100 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final List<Tag> FRIENDS = Collections.singletonList(new Tag("friends"));
+    private static final List<Tag> OWES_MONEY = Collections.singletonList(new Tag("owesMoney"));
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @BeforeEach
+    public void setUp() {
+        // ALICE: friends, BENSON: owesMoney + friends, CARL: no tags, DANIEL: friends
+        for (Person person : Arrays.asList(ALICE, BENSON, CARL, DANIEL)) {
+            tagIndex.add(person);
+        }
+    }
+
+    @Test
+    public void find_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.find(null));
+    }
+
+    @Test
+    public void find_anyTags_returnsUnion() {
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(FRIENDS)), ALICE, BENSON, DANIEL);
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(Arrays.asList(new Tag("OWESMONEY"),
+                new Tag("unknown")))), BENSON);
+    }
+
+    @Test
+    public void find_requiredTags_returnsIntersection() {
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(Collections.emptyList(),
+                Arrays.asList(new Tag("friends"), new Tag("owesMoney")), Collections.emptyList())), BENSON);
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(FRIENDS,
+                Collections.singletonList(new Tag("unknown")), Collections.emptyList())));
+    }
+
+    @Test
+    public void find_excludedTags_returnsDifference() {
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(FRIENDS, Collections.emptyList(), OWES_MONEY)),
+                ALICE, DANIEL);
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(Collections.emptyList(),
+                Collections.emptyList(), FRIENDS)), CARL);
+    }
+
+    @Test
+    public void find_noTags_returnsNobody() {
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(Collections.emptyList())));
+    }
+
+    @Test
+    public void find_afterRemoveAndAdd_reflectsChanges() {
+        tagIndex.remove(BENSON);
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(OWES_MONEY)));
+
+        // freed ordinal is reused without leaking the removed person's tags
+        Person taggedCarl = new PersonBuilder(CARL).withName("Carl Kurz Junior").withTags("owesMoney").build();
+        tagIndex.add(taggedCarl);
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(OWES_MONEY)), taggedCarl);
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(FRIENDS)), ALICE, DANIEL);
+
+        tagIndex.clear();
+        assertPersons(tagIndex.find(new TagsContainTagPredicate(FRIENDS)));
+    }
+
+    @Test
+    public void find_matchesPredicate() {
+        TagsContainTagPredicate predicate = new TagsContainTagPredicate(FRIENDS, Collections.emptyList(), OWES_MONEY);
+        Set<Person> found = tagIndex.find(predicate);
+        for (Person person : Arrays.asList(ALICE, BENSON, CARL, DANIEL)) {
+            assertEquals(predicate.test(person), found.contains(person));
+        }
+    }
+
+    private void assertPersons(Set<Person> actual, Person... expected) {
+        assertEquals(expected.length, actual.size());
+        for (Person person : expected) {
+            assertTrue(actual.contains(person));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final TagSet tagSet = TagSet.of(Arrays.asList(new Tag("owesMoney"), new Tag("friends"),
+            new Tag("FRIENDS"), new Tag("colleagues")));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_duplicateTags_keepsFirstOfEach() {
+        assertEquals(3, tagSet.size());
+        List<String> tagNames = new ArrayList<>();
+        tagSet.forEach(tag -> tagNames.add(tag.tagName));
+        assertEquals(Arrays.asList("colleagues", "friends", "owesMoney"), tagNames);
+    }
+
+    @Test
+    public void of_tagSet_returnsSameInstance() {
+        assertSame(tagSet, TagSet.of(tagSet));
+        assertTrue(TagSet.of(Collections.emptySet()).isEmpty());
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(tagSet.contains(new Tag("Friends")));
+        assertTrue(tagSet.contains(new Tag("owesmoney")));
+        assertFalse(tagSet.contains(new Tag("family")));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(tagSet.contains(null));
+    }
+
+    @Test
+    public void equals_setWithSameTags_returnsTrue() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues"),
+                new Tag("owesMoney")));
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -35,6 +39,36 @@ public class TagTest {
         assertTrue(Tag.isValidTagName(generateString(Tag.MAX_LENGTH)));
     }
 
+    @Test
+    public void equals_differentCase_returnsTrueWithSameHashCode() {
+        Tag tag = new Tag("Friend");
+        Tag otherCase = new Tag("fRIEND");
+        assertTrue(tag.equals(otherCase));
+        assertEquals(tag.hashCode(), otherCase.hashCode());
+        assertEquals("friend", tag.getLowerCaseTagName());
+
+        assertFalse(tag.equals(new Tag("Friends")));
+    }
+
+    @Test
+    public void getLowerCaseTagName_turkishDefaultLocale_lowerCasedIndependently() {
+        // the default locale lower-cases 'I' to a dotless i in Turkish
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("intern", new Tag("INTERN").getLowerCaseTagName());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void of() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+        assertSame(Tag.of("colleagues"), Tag.of("colleagues"));
+        assertEquals(new Tag("colleagues"), Tag.of("colleagues"));
+    }
+
     private String generateString(int length) {
         return "a".repeat(length);
     }
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_laterChanges_snapshotWritten() throws Exception {
+        AsyncStorage storage = new AsyncStorage(createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab"))));
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+
+        storage.saveAddressBook(original);
+        assertEquals(OptionalLong.of(original.getChangeSequence()), storage.getSavedAddressBookEpoch());
+        original.addPerson(HOON);
+        storage.flush();
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_onlyLatestWrittenAfterCurrent() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteAllowed = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        AsyncStorage storage = new AsyncStorage(createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        firstWriteStarted.countDown();
+                        try {
+                            firstWriteAllowed.await();
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        written.add(addressBook);
+                    }
+                }));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        firstWriteStarted.await();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        firstWriteAllowed.countDown();
+        storage.flush();
+
+        assertEquals(2, written.size());
+        assertEquals(original.getPersonList(), written.get(1).getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureReportedAndNothingSaved() {
+        IOException failure = new IOException("dummy exception");
+        List<IOException> reported = new ArrayList<>();
+        AsyncStorage storage = new AsyncStorage(createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw failure;
+                    }
+                }));
+        storage.setSaveFailureHandler(reported::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+
+        assertEquals(List.of(failure), reported);
+        assertFalse(storage.getSavedAddressBookEpoch().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_journaledSnapshots_changesAppended() throws Exception {
+        Path filePath = testFolder.resolve("ab");
+        AsyncStorage storage = new AsyncStorage(createStorageManager(
+                new JournaledAddressBookStorage(filePath, new JournalSettings(true, 1000, 1024 * 1024))));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flush();
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    private StorageManager createStorageManager(AddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+}
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin"), false)
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        for (boolean isDeflated : new boolean[] {false, true}) {
+            Path filePath = testFolder.resolve("TempAddressBook" + isDeflated + ".bin");
+            BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, isDeflated);
+            AddressBook original = getTypicalAddressBook();
+
+            storage.saveAddressBook(original);
+            assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+            ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+            assertEquals(original, readBack);
+            assertEquals(getIds(original), getIds(readBack));
+
+            original.addPerson(HOON);
+            original.removePerson(ALICE);
+            storage.saveAddressBook(original);
+            assertEquals(original, storage.readAddressBook().get());
+        }
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_convertedLosslessly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        // json -> binary
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath, true);
+        ReadOnlyAddressBook readBack = binaryStorage.readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(getIds(original), getIds(readBack));
+
+        // binary -> json
+        binaryStorage.saveAddressBook(readBack);
+        readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(getIds(original), getIds(readBack));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath, false).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // cut short
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, false)
+                .readAddressBook());
+
+        // unsupported version
+        bytes[BinaryAddressBookFormat.MAGIC.length + 1] = 99;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, false)
+                .readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_validationMarkerWritten_readAsUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, false);
+        assertFalse(BinaryAddressBookStorage.isUnchangedSinceSaved(filePath));
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(JsonAddressBookStorage.getValidationMarkerFilePath(filePath)));
+        assertTrue(BinaryAddressBookStorage.isUnchangedSinceSaved(filePath));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidValueWrittenAfterSave_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        new BinaryAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        // names cannot start with '!', which is only noticed because the file no longer matches its marker
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] name = ALICE.getName().fullName.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i + name.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + name.length, name, 0, name.length)) {
+                bytes[i] = '!';
+            }
+        }
+        Files.write(filePath, bytes);
+
+        assertFalse(BinaryAddressBookStorage.isUnchangedSinceSaved(filePath));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, false)
+                .readAddressBook());
+    }
+
+    private List<Long> getIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+
+}
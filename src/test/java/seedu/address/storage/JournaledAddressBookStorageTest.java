@@ -0,0 +1,216 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.SortOrder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final JournalSettings JOURNAL_SETTINGS = new JournalSettings(true, 1000, 1024 * 1024);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullSettings_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(
+                testFolder.resolve("data.json"), null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                testFolder.resolve("NonExistentFile.json"), JOURNAL_SETTINGS);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_personLevelChanges_appendedAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS);
+        AddressBook original = getTypicalAddressBook();
+
+        // first save -> snapshot only
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalFilePath));
+
+        // later saves -> snapshot untouched, one record per change
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withDetail("Met at a career fair").build());
+        original.removePerson(BENSON);
+        original.sort(Comparator.comparing(person -> person.getName().fullName, Comparator.reverseOrder()));
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+
+        AddressBook readBack = (AddressBook) new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS)
+                .readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(original.findPersonById(ALICE.getId()), readBack.findPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void saveAddressBook_sortedInSortOrder_journaledWithoutOrder() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        original.sort(new SortOrder(SortOrder.Field.NAME, true));
+        storage.saveAddressBook(original);
+        List<String> records = Files.readAllLines(journalFilePath);
+        assertEquals(2, records.size());
+        assertFalse(records.get(1).contains("\"order\""));
+
+        assertEquals(original, new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_savedAddressBookReadOnLaunch_appended() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // as on launch, the model holds a copy of the contact book read
+        JournaledAddressBookStorage launched = new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS);
+        AddressBook model = new AddressBook(launched.readAddressBook().get());
+        launched.setSavedAddressBook(model);
+        model.addPerson(IDA);
+        launched.saveAddressBook(model);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(model, new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_savedAddressBookReadFromIncompleteJournal_compacted() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        appendToJournal(filePath, "{\"sequence\":2,\"type\":\"ADD\",\"person\":{\"name\":\"Ida");
+
+        // records cannot follow the incomplete one
+        JournaledAddressBookStorage launched = new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS);
+        AddressBook model = new AddressBook(launched.readAddressBook().get());
+        launched.setSavedAddressBook(model);
+        model.addPerson(IDA);
+        launched.saveAddressBook(model);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(model, new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compacted() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath,
+                new JournalSettings(true, 1, 1024 * 1024));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        // records numbered after the compacted ones are still replayed
+        original.removePerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_listReplaced_compacted() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        original.resetData(new AddressBook());
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        appendToJournal(filePath, "{\"sequence\":2,\"type\":\"ADD\",\"person\":{\"name\":\"Ida");
+        assertEquals(original, new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNAL_SETTINGS);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // incomplete record followed by more records
+        appendToJournal(filePath, "{\"sequence\":1,\"type\"\n{\"sequence\":2,\"type\":\"CLEAR\"}\n");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        // record for a person that does not exist
+        Files.delete(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        appendToJournal(filePath, "{\"sequence\":1,\"type\":\"REMOVE\",\"id\":" + Long.MAX_VALUE + "}\n");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        // records missing
+        Files.delete(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        appendToJournal(filePath, "{\"sequence\":2,\"type\":\"CLEAR\"}\n");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    private void appendToJournal(Path filePath, String content) throws IOException {
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+}
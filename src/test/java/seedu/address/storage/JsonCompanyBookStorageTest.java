@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,8 +10,11 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.CRC32C;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +90,49 @@ public class JsonCompanyBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_notPrettyPrinted_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_validationMarker_skipsValidationOnlyIfChecksumMatches() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path markerFilePath = JsonAddressBookStorage.getValidationMarkerFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertTrue(Files.exists(markerFilePath));
+        assertEquals(original, jsonAddressBookStorage.readAddressBook().get());
+
+        // changed after saving -> validated
+        String invalidContent = Files.readString(filePath).replace(ALICE.getName().fullName, "Alice P@uline");
+        Files.writeString(filePath, invalidContent);
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+
+        // checksum matches -> trusted without validation
+        CRC32C checksum = new CRC32C();
+        checksum.update(invalidContent.getBytes(StandardCharsets.UTF_8));
+        String marker = JsonAddressBookStorage.CONSTRAINTS_VERSION + " " + Long.toHexString(checksum.getValue());
+        Files.writeString(markerFilePath, marker);
+        assertEquals("Alice P@uline", jsonAddressBookStorage.readAddressBook().get().getPersonList().get(0)
+                .getName().fullName);
+
+        // marker for other constraints -> validated
+        Files.writeString(markerFilePath, marker.replaceFirst("^\\d+", "0"));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+
+        // unreadable marker -> validated
+        Files.writeString(markerFilePath, "not a checksum");
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -5,12 +5,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableCompanyBookTest {
@@ -44,4 +49,45 @@ public class JsonSerializableCompanyBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyChunks_convertedInOrder() throws Exception {
+        int size = JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE * 3 + 1;
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            persons.add(createPerson(i, "p" + i + "@example.com", String.valueOf(10000000 + i)));
+        }
+
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, null).toModelType();
+        assertEquals(size, addressBook.getPersonList().size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i + 1, addressBook.getPersonList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void toModelType_invalidPersonsInSeveralChunks_firstInvalidPersonReported() throws Exception {
+        int size = JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE * 3;
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            persons.add(createPerson(i, "p" + i + "@example.com", String.valueOf(10000000 + i)));
+        }
+        // an invalid phone early in the second chunk, and an invalid email at the end of the first chunk
+        persons.set(JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE + 1, createPerson(0, "p@example.com", "1"));
+        persons.set(JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE - 1, createPerson(1, "invalid", "12345"));
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS,
+                    new JsonSerializableAddressBook(persons, null)::toModelType);
+        }
+
+        persons.set(JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE - 1, createPerson(1, "p@example.com", "12345"));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(persons, null)::toModelType);
+    }
+
+    private static JsonAdaptedPerson createPerson(int index, String email, String phone) {
+        return new JsonAdaptedPerson((long) index + 1, "Person " + index, phone, email, "Company", "",
+                Collections.emptyList());
+    }
+
 }
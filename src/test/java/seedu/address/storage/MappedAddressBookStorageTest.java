@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList().get(3).getId(), readBack.getPersonList().get(3).getId());
+
+        // changes read every person first
+        readBack.addPerson(HOON);
+        readBack.removePerson(ALICE);
+        assertTrue(readBack.findPersonById(HOON.getId()).isPresent());
+        storage.saveAddressBook(readBack);
+        assertEquals(readBack, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_readLazilyFromSameFile_readBackAfterSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // the persons still being read lazily are saved over the file they are read from
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        storage.saveAddressBook(readBack);
+        assertEquals(original, readBack);
+        assertEquals(original, storage.readAddressBook().get());
+
+        AddressBook changed = new AddressBook(storage.readAddressBook().get());
+        changed.addPerson(HOON);
+        storage.saveAddressBook(changed);
+        assertEquals(original, readBack);
+        assertEquals(changed, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_fileReplacedWhileMapped_personsNotCopied() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        List<MappedPersonList> mappedPersons = storage.getMappedPersons();
+        assertEquals(1, mappedPersons.size());
+
+        // the file can be replaced while mapped here, so the persons keep being read from the old mapping
+        AddressBook changed = new AddressBook(readBack);
+        changed.addPerson(HOON);
+        storage.saveAddressBook(changed);
+        assertFalse(mappedPersons.get(0).isReleased());
+        assertTrue(storage.getMappedPersons().isEmpty());
+        assertEquals(original, readBack);
+        assertEquals(changed, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_otherFormats_readInFull() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+
+        Path deflatedFilePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(deflatedFilePath, true).saveAddressBook(original);
+        assertEquals(original, new MappedAddressBookStorage(deflatedFilePath).readAddressBook().get());
+
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        assertEquals(original, new MappedAddressBookStorage(jsonFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath, false).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_malformedRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        new BinaryAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        // the length of the name runs past the end of the record
+        byte[] bytes = Files.readAllBytes(filePath);
+        int nameIndex = indexOf(bytes, ALICE.getName().fullName.getBytes(StandardCharsets.UTF_8));
+        bytes[nameIndex - 2] = 0x7f;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsOnceRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        new BinaryAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        // names cannot start with '!'
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[indexOf(bytes, ALICE.getName().fullName.getBytes(StandardCharsets.UTF_8))] = '!';
+        Files.write(filePath, bytes);
+
+        AddressBook readBack = (AddressBook) new MappedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(1, readBack.getPersonList().size());
+        assertThrows(IllegalStateException.class, () -> readBack.getPersonList().get(0));
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found");
+    }
+
+}
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidShardCount_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(filePath, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(filePath,
+                ShardedAddressBookStorage.MAX_SHARD_COUNT + 1));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("NonExistentFile.json"), SHARD_COUNT)
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            assertTrue(Files.exists(ShardedAddressBookStorage.getShardFilePath(filePath, shard)));
+        }
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList().get(3).getId(), readBack.getPersonList().get(3).getId());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesSinceLastSave_onlyChangedShardsWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        int changedShard = ShardedAddressBookStorage.getShard(HOON.getId(), SHARD_COUNT);
+        Path unchangedShardFilePath = ShardedAddressBookStorage.getShardFilePath(filePath,
+                (changedShard + 1) % SHARD_COUNT);
+        Files.delete(unchangedShardFilePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(unchangedShardFilePath));
+
+        // reordering the contact book rewrites every shard
+        addressBook.sort(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(unchangedShardFilePath));
+        assertEquals(addressBook, new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_savedAddressBookReadOnLaunch_onlyChangedShardsWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // as on launch, the model holds a copy of the contact book read
+        ShardedAddressBookStorage launched = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook model = new AddressBook(launched.readAddressBook().get());
+        launched.setSavedAddressBook(model);
+
+        int changedShard = ShardedAddressBookStorage.getShard(IDA.getId(), SHARD_COUNT);
+        Path unchangedShardFilePath = ShardedAddressBookStorage.getShardFilePath(filePath,
+                (changedShard + 1) % SHARD_COUNT);
+        Path movedShardFilePath = testFolder.resolve("unchangedShard.json");
+        Files.move(unchangedShardFilePath, movedShardFilePath);
+
+        model.addPerson(IDA);
+        launched.saveAddressBook(model);
+        assertFalse(Files.exists(unchangedShardFilePath));
+
+        // the person added after the ones read is still ordered last
+        Files.move(movedShardFilePath, unchangedShardFilePath);
+        assertEquals(model, new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_unshardedFile_convertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        storage.saveAddressBook(readBack);
+        assertTrue(Files.exists(ShardedAddressBookStorage.getShardFilePath(filePath, 0)));
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.delete(ShardedAddressBookStorage.getShardFilePath(filePath, SHARD_COUNT - 1));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_fewerShards_leftoverShardsDeleted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 1);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(readBack);
+        assertFalse(Files.exists(ShardedAddressBookStorage.getShardFilePath(filePath, 1)));
+        assertEquals(readBack, storage.readAddressBook().get());
+    }
+
+}
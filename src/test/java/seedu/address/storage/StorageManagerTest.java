@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +62,27 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void getSavedAddressBookEpoch() throws Exception {
+        assertFalse(storageManager.getSavedAddressBookEpoch().isPresent());
+
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        assertEquals(OptionalLong.of(original.getChangeSequence()), storageManager.getSavedAddressBookEpoch());
+
+        // saved elsewhere -> epoch on disk unchanged
+        original.removePerson(original.getPersonList().get(0));
+        storageManager.saveAddressBook(original, getTempFilePath("other"));
+        assertEquals(OptionalLong.of(original.getChangeSequence() - 1), storageManager.getSavedAddressBookEpoch());
+    }
+
+    @Test
+    public void setSavedAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.setSavedAddressBook(addressBook);
+        assertEquals(OptionalLong.of(addressBook.getChangeSequence()), storageManager.getSavedAddressBookEpoch());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());